@@ -0,0 +1,498 @@
+package {{basePackage}}.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+// -- 2단계 캐시 (Caffeine L1 + Redis L2) --
+// 다중 인스턴스 환경: 조회는 로컬(L1)에서, 변경은 L2 반영 후 pub/sub로 다른 인스턴스 L1 무효화
+// put = @Cacheable miss 채움 → L2 + 자기 L1 만 기록 (브로드캐스트 시 읽기 miss 마다 전 인스턴스 L1 이 비워짐)
+// 무효화는 evict/clear 만 전파 → 변경 메서드는 @CachePut 대신 @CacheEvict 사용
+// 키는 String.valueOf(key) 로 정규화 (L1/L2/무효화 메시지 동일 키, 직렬화 불가 record 키도 안전)
+// 경합: evict 직전에 원본을 읽은 다른 요청의 로더가 evict 이후 L2 에 이전 값을 기록 → 다음 evict 또는 L2 TTL 까지 전 인스턴스가 이전 값을 읽음
+//   (L1 TTL 은 L2 에서 다시 채워지므로 이 경합의 상한이 아님)
+// 완화: 1) 트랜잭션 안의 evict/clear 는 커밋 후 실행 (커밋 전 evict → 커밋 전 원본을 읽은 로더가 바로 다시 채움)
+//       2) 지연 재무효화 (delayedEvictExecutor, 로드 시간보다 긴 지연 후 L2·L1 한 번 더 제거 + 재전파)
+//       3) 변경 가능한 엔티티 캐시는 L2 TTL 을 짧게 → 로드가 지연보다 길거나 재무효화가 유실돼도 최대 지연 제한 (CacheConfig)
+
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final Cache local;
+    private final Cache remote;
+    private final BiConsumer<String, String> invalidationPublisher;
+    private final Executor delayedEvictExecutor;
+
+    // remote == null → L1 전용 캐시 (직렬화가 어려운 Page 등), 무효화 브로드캐스트만 공유
+    public TwoTierCache(String name, Cache local, Cache remote, BiConsumer<String, String> invalidationPublisher,
+                        Executor delayedEvictExecutor) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.delayedEvictExecutor = delayedEvictExecutor;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        var cacheKey = String.valueOf(key);
+        var value = local.get(cacheKey);
+        if (value != null || remote == null) {
+            return value;
+        }
+        value = remote.get(cacheKey);
+        if (value != null) {
+            local.put(cacheKey, value.get());
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        var value = get(key);
+        return value != null ? (T) value.get() : null;
+    }
+
+    // L1(Caffeine)의 키별 잠금 안에서 L2 → 원본 순으로 로드 → 인스턴스 내 중복 로드 없음 (@Cacheable(sync = true))
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        var cacheKey = String.valueOf(key);
+        return local.get(cacheKey, () -> {
+            if (remote == null) {
+                return valueLoader.call();
+            }
+            var cached = remote.get(cacheKey);
+            if (cached != null) {
+                return (T) cached.get();
+            }
+            var value = valueLoader.call();
+            remote.put(cacheKey, value);
+            return value;
+        });
+    }
+
+    // 원본에서 읽은 값 채움 → 다른 인스턴스 L1 은 그대로 유지 (값이 바뀐 경우가 아님)
+    @Override
+    public void put(Object key, Object value) {
+        var cacheKey = String.valueOf(key);
+        if (remote != null) {
+            remote.put(cacheKey, value);
+        }
+        local.put(cacheKey, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        var cacheKey = String.valueOf(key);
+        afterCommit(() -> {
+            evictEverywhere(cacheKey);
+            delayedEvictExecutor.execute(() -> evictEverywhere(cacheKey));
+        });
+    }
+
+    @Override
+    public void clear() {
+        afterCommit(() -> {
+            clearEverywhere();
+            delayedEvictExecutor.execute(this::clearEverywhere);
+        });
+    }
+
+    private void evictEverywhere(String cacheKey) {
+        if (remote != null) {
+            remote.evict(cacheKey);
+        }
+        local.evict(cacheKey);
+        invalidationPublisher.accept(name, cacheKey);
+    }
+
+    private void clearEverywhere() {
+        if (remote != null) {
+            remote.clear();
+        }
+        local.clear();
+        invalidationPublisher.accept(name, null);
+    }
+
+    // @Transactional 메서드의 @CacheEvict 는 커밋 전에 실행됨 → 커밋 후로 미룸 (롤백 시 무효화 생략)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    void evictLocal(String cacheKey) {
+        local.evict(cacheKey);
+    }
+
+    void clearLocal() {
+        local.clear();
+    }
+}
+
+// -- 무효화 메시지 --
+// 아래 코드는 common/cache/CacheInvalidation.java 로 생성
+// key 는 TwoTierCache 가 정규화한 문자열 → JSON 직렬화 후에도 L1 키와 equals 일치
+
+/*
+package {{basePackage}}.common.cache;
+
+// key == null → 캐시 전체 clear
+public record CacheInvalidation(String origin, String cacheName, String key) {
+}
+*/
+
+// -- CacheManager --
+// 아래 코드는 common/cache/TwoTierCacheManager.java 로 생성
+
+/*
+package {{basePackage}}.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+public class TwoTierCacheManager implements CacheManager {
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentHashMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    private final CacheManager localCacheManager;
+    private final CacheManager remoteCacheManager;
+    private final Set<String> localOnlyCacheNames;
+    private final Consumer<CacheInvalidation> publisher;
+    private final Executor delayedEvictExecutor;
+
+    public TwoTierCacheManager(CacheManager localCacheManager, CacheManager remoteCacheManager,
+                               Set<String> localOnlyCacheNames, Consumer<CacheInvalidation> publisher,
+                               Executor delayedEvictExecutor) {
+        this.localCacheManager = localCacheManager;
+        this.remoteCacheManager = remoteCacheManager;
+        this.localOnlyCacheNames = localOnlyCacheNames;
+        this.publisher = publisher;
+        this.delayedEvictExecutor = delayedEvictExecutor;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> new TwoTierCache(
+                cacheName,
+                localCacheManager.getCache(cacheName),
+                localOnlyCacheNames.contains(cacheName) ? null : remoteCacheManager.getCache(cacheName),
+                (changedCache, key) -> publisher.accept(new CacheInvalidation(instanceId, changedCache, key)),
+                delayedEvictExecutor));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Set.copyOf(caches.keySet());
+    }
+
+    // 다른 인스턴스의 변경 → L1만 제거 (L2는 발신 인스턴스가 이미 반영)
+    public void onInvalidation(CacheInvalidation message) {
+        if (instanceId.equals(message.origin())) {
+            return;
+        }
+        var cache = caches.get(message.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (message.key() == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(message.key());
+        }
+    }
+}
+*/
+
+// -- 설정 --
+// 아래 코드는 common/config/CacheConfig.java 로 생성
+// 의존성: com.github.ben-manes.caffeine:caffeine, spring-boot-starter-data-redis
+
+/*
+package {{basePackage}}.common.config;
+
+import {{basePackage}}.common.cache.CacheInvalidation;
+import {{basePackage}}.common.cache.TwoTierCacheManager;
+import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}Response;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    private static final ChannelTopic INVALIDATION_TOPIC = new ChannelTopic("cache:invalidation");
+    // 원본 조회 + L2 기록 시간보다 길게 → 그 사이 이전 값으로 다시 채워진 L2·L1 을 한 번 더 제거
+    private static final Duration DELAYED_EVICT = Duration.ofSeconds(1);
+    // 변경 가능한 엔티티 캐시의 L2 상한 → 재무효화로도 못 잡은 이전 값의 최대 노출 시간
+    private static final Duration MUTABLE_ENTRY_TTL = Duration.ofMinutes(1);
+
+    @Bean
+    RedisTemplate<String, CacheInvalidation> cacheInvalidationTemplate(RedisConnectionFactory connectionFactory) {
+        var template = new RedisTemplate<String, CacheInvalidation>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(new Jackson2JsonRedisSerializer<>(CacheInvalidation.class));
+        return template;
+    }
+
+    @Bean
+    TwoTierCacheManager cacheManager(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper,
+                                     RedisTemplate<String, CacheInvalidation> cacheInvalidationTemplate) {
+        var local = new CaffeineCacheManager();
+        local.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(30))
+                .maximumSize(10_000));
+
+        // record DTO는 final → 캐시별 타입 지정 직렬화 (GenericJackson2Json 은 타입 정보 누락)
+        var defaults = RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(10));
+        var remote = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withCacheConfiguration("{{resourceName}}", defaults.entryTtl(MUTABLE_ENTRY_TTL)
+                        .serializeValuesWith(SerializationPair.fromSerializer(
+                                new Jackson2JsonRedisSerializer<>(objectMapper, {{EntityName}}Response.class))))
+                .build();
+        remote.afterPropertiesSet();
+
+        return new TwoTierCacheManager(local, remote,
+                Set.of("{{resourceName}}-search"),
+                message -> cacheInvalidationTemplate.convertAndSend(INVALIDATION_TOPIC.getTopic(), message),
+                CompletableFuture.delayedExecutor(DELAYED_EVICT.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    @Bean
+    RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                            TwoTierCacheManager cacheManager) {
+        var serializer = new Jackson2JsonRedisSerializer<>(CacheInvalidation.class);
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onInvalidation(serializer.deserialize(message.getBody())),
+                INVALIDATION_TOPIC);
+        return container;
+    }
+}
+*/
+
+// -- 인스턴스 간 정합성 테스트 --
+// 아래 코드는 src/test/java/{{basePackage}}/common/cache/TwoTierCacheManagerTest.java 로 생성
+// Redis 대체: L2 = ConcurrentMapCacheManager(공유), pub/sub = 인메모리 브로드캐스트 → 외부 인프라 없이 2개 인스턴스 시뮬레이션
+
+/*
+package {{basePackage}}.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheManagerTest {
+
+    private static final String CACHE = "{{resourceName}}";
+    private static final String LOCAL_ONLY = "{{resourceName}}-search";
+
+    // 검색 캐시 키({#condition.normalized(), #pageable})처럼 Serializable 이 아닌 record 키
+    record SearchKey(String name, int page) {
+    }
+
+    private final List<TwoTierCacheManager> instances = new ArrayList<>();
+    private final List<CacheInvalidation> published = new ArrayList<>();
+    // 지연 재무효화는 테스트가 직접 실행 → 시간 대기 없이 경합 재현
+    private final List<Runnable> delayedEvicts = new ArrayList<>();
+    private TwoTierCacheManager instanceA;
+    private TwoTierCacheManager instanceB;
+
+    @BeforeEach
+    void setUp() {
+        var sharedRedis = new ConcurrentMapCacheManager();
+        instanceA = newInstance(sharedRedis);
+        instanceB = newInstance(sharedRedis);
+    }
+
+    private TwoTierCacheManager newInstance(ConcurrentMapCacheManager sharedRedis) {
+        var instance = new TwoTierCacheManager(new CaffeineCacheManager(), sharedRedis, Set.of(LOCAL_ONLY),
+                message -> {
+                    published.add(message);
+                    instances.forEach(each -> each.onInvalidation(message));
+                },
+                delayedEvicts::add);
+        instances.add(instance);
+        return instance;
+    }
+
+    @Test
+    @DisplayName("한 인스턴스가 로드한 값은 L2를 통해 다른 인스턴스에서 원본 조회 없이 읽힌다")
+    void sharesLoadedValueThroughL2() {
+        // given
+        var loads = new AtomicInteger();
+
+        // when
+        instanceA.getCache(CACHE).get(1L, () -> "v" + loads.incrementAndGet());
+        var fromB = instanceB.getCache(CACHE).get(1L, () -> "v" + loads.incrementAndGet());
+
+        // then
+        assertThat(fromB).isEqualTo("v1");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evict 시 다른 인스턴스의 L1도 무효화되어 갱신된 값을 읽는다")
+    void evictInvalidatesOtherInstances() {
+        // given
+        instanceA.getCache(CACHE).get(1L, () -> "old");
+        instanceB.getCache(CACHE).get(1L, () -> "old");
+
+        // when
+        instanceA.getCache(CACHE).evict(1L);
+        var fromB = instanceB.getCache(CACHE).get(1L, () -> "new");
+
+        // then
+        assertThat(fromB).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("read-through 채움(put)은 무효화를 브로드캐스트하지 않아 다른 인스턴스 L1이 유지된다")
+    void putDoesNotBroadcast() {
+        // given
+        var key = new SearchKey("keyword", 0);
+        instanceB.getCache(CACHE).get(key, () -> "cached-on-b");
+
+        // when
+        instanceA.getCache(CACHE).put(key, "filled-on-a");
+
+        // then
+        assertThat(published).isEmpty();
+        assertThat(instanceA.getCache(CACHE).get(key).get()).isEqualTo("filled-on-a");
+        assertThat(instanceB.getCache(CACHE).get(key).get()).isEqualTo("cached-on-b");
+    }
+
+    @Test
+    @DisplayName("record 키 evict 도 다른 인스턴스 L1에서 제거되고, 무효화 메시지는 JSON 왕복 후에도 같은 키를 가리킨다")
+    void evictWithRecordKey() throws Exception {
+        // given
+        var key = new SearchKey("keyword", 0);
+        instanceA.getCache(CACHE).get(key, () -> "old");
+        instanceB.getCache(CACHE).get(key, () -> "old");
+
+        // when
+        instanceA.getCache(CACHE).evict(key);
+
+        // then
+        assertThat(instanceB.getCache(CACHE).get(key)).isNull();
+        var objectMapper = new ObjectMapper();
+        var message = published.getFirst();
+        assertThat(objectMapper.readValue(objectMapper.writeValueAsBytes(message), CacheInvalidation.class)).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("L1 전용 캐시도 clear가 모든 인스턴스에 전파된다")
+    void clearPropagatesForLocalOnlyCache() {
+        // given
+        instanceA.getCache(LOCAL_ONLY).put("page-0", "a");
+        instanceB.getCache(LOCAL_ONLY).get("page-0", () -> "b");
+
+        // when
+        instanceA.getCache(LOCAL_ONLY).clear();
+
+        // then
+        assertThat(instanceB.getCache(LOCAL_ONLY).get("page-0")).isNull();
+    }
+
+    @Test
+    @DisplayName("evict 이후 이전 값을 읽은 로더가 L2를 다시 채워도 지연 재무효화가 제거한다")
+    void delayedEvictRemovesStaleRefill() {
+        // given
+        instanceA.getCache(CACHE).get(1L, () -> "old");
+        instanceA.getCache(CACHE).evict(1L);
+        // evict 직전에 원본을 읽은 B 의 로더가 evict 이후 L2 에 이전 값을 기록
+        instanceB.getCache(CACHE).get(1L, () -> "old");
+
+        // when
+        delayedEvicts.forEach(Runnable::run);
+
+        // then
+        assertThat(instanceA.getCache(CACHE).get(1L, () -> "new")).isEqualTo("new");
+        assertThat(instanceB.getCache(CACHE).get(1L, () -> "new")).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 evict는 커밋 후에 실행된다")
+    void evictRunsAfterCommit() {
+        // given
+        instanceA.getCache(CACHE).get(1L, () -> "old");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            instanceA.getCache(CACHE).evict(1L);
+
+            // then
+            assertThat(instanceB.getCache(CACHE).get(1L, () -> "new")).isEqualTo("old");
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            assertThat(published).hasSize(1);
+            assertThat(instanceB.getCache(CACHE).get(1L, () -> "new")).isEqualTo("new");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
+*/
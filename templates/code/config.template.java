@@ -65,6 +65,81 @@ public class QuerydslConfig {
 }
 */
 
+// -- 커넥션 풀 (HikariCP) 설정 --
+// 코어 수/예상 동시성 기반 풀 크기 산정 + 드라이버별 statement cache 확장 + 커넥션 누수 감지
+// 계산값은 기본값일 뿐 → spring.datasource.hikari.* 설정이 있으면 바인딩 시 덮어씀
+// 메트릭: actuator + Micrometer 존재 시 hikaricp.connections.{active,idle,pending,timeout,acquire,usage} 자동 노출
+
+/*
+package {{basePackage}}.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource dataSource(DataSourceProperties properties, Environment env) {
+        var dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+
+        // HikariCP 권장식: cores * 2 + 1 (디스크 I/O 대기 고려), 예상 동시 요청 수를 상한으로 사용
+        var cores = Runtime.getRuntime().availableProcessors();
+        var expectedConcurrency = env.getProperty("app.datasource.expected-concurrency", Integer.class, Integer.MAX_VALUE);
+        var poolSize = Math.max(2, Math.min(cores * 2 + 1, expectedConcurrency));
+
+        dataSource.setPoolName("{{basePackage}}-pool");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(poolSize);                                  // 고정 크기 풀 (증감 비용 제거)
+        dataSource.setConnectionTimeout(Duration.ofSeconds(3).toMillis());    // 풀 고갈 시 빠른 실패
+        dataSource.setMaxLifetime(Duration.ofMinutes(30).toMillis());         // DB wait_timeout 보다 짧게
+        dataSource.setLeakDetectionThreshold(Duration.ofSeconds(20).toMillis());
+
+        configureStatementCache(dataSource, properties.determineUrl());
+        return dataSource;
+    }
+
+    // statement cache: 드라이버별 프로퍼티가 다르므로 JDBC URL 로 분기 (H2 등 그 외 드라이버는 기본값 유지)
+    private static void configureStatementCache(HikariDataSource dataSource, String url) {
+        if (url.startsWith("jdbc:postgresql:")) {
+            // pgjdbc 기본값(256개 / 5MiB)은 Hibernate 가 만드는 고유 SQL(엔티티별 CRUD, IN 패딩 변형)에 비해 작아 캐시에서 밀려남
+            // PgBouncer transaction 모드 사용 시에는 대신 prepareThreshold=0 (서버 prepared statement 비활성화)
+            dataSource.addDataSourceProperty("preparedStatementCacheQueries", "1024");
+            dataSource.addDataSourceProperty("preparedStatementCacheSizeMiB", "16");
+        } else if (url.startsWith("jdbc:mysql:")) {
+            // Connector/J 는 기본적으로 캐시 비활성화 (cachePrepStmts=false)
+            dataSource.addDataSourceProperty("cachePrepStmts", "true");
+            dataSource.addDataSourceProperty("prepStmtCacheSize", "250");
+            dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            dataSource.addDataSourceProperty("useServerPrepStmts", "true");
+        }
+    }
+}
+*/
+
+// application.yml (풀 메트릭 히스토그램 — 커넥션 대기 시간 p95/p99 확인용)
+
+/*
+app:
+  datasource:
+    expected-concurrency: 50
+
+management:
+  metrics:
+    distribution:
+      percentiles-histogram:
+        hikaricp.connections.acquire: true
+*/
+
 // -- 외부 API 호출용 WebClient 설정 --
 // 필요 시 아래 코드를 config/ 패키지에 추가
 // 의존성: spring-boot-starter-webflux
@@ -121,3 +196,217 @@ public record AppProperties(
     ) {}
 }
 */
+
+// -- 빠른 기동 프로파일 (fast-startup) --
+// 오토스케일링 대응: Spring AOT + CDS 아카이브 + 비핵심 빈 lazy-init + JPA 백그라운드 부트스트랩
+// 빌드 설정(processAot, cdsArchive)은 /gradle startup 참조
+// ※ AOT는 빌드 시점 프로파일로 빈 구성을 고정 → processAot 에도 fast-startup 프로파일 지정 필수
+
+/*
+package {{basePackage}}.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    // lazy-initialization 제외: 첫 요청 지연을 유발하는 핵심 빈은 기동 시 생성
+    // (EntityManagerFactory 는 bootstrap-mode=deferred 로 applicationTaskExecutor 에서 백그라운드 초기화)
+    @Bean
+    static LazyInitializationExcludeFilter criticalBeansExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class,
+                EntityManagerFactory.class,
+                ObjectMapper.class);
+    }
+}
+*/
+
+// application-fast-startup.yml
+
+/*
+spring:
+  main:
+    lazy-initialization: true
+  data:
+    jpa:
+      repositories:
+        bootstrap-mode: deferred
+  jmx:
+    enabled: false
+*/
+
+// -- 기동 시간 벤치마크 --
+// 아래 코드는 src/test/java/{{basePackage}}/StartupTimeBenchmarkTest.java 로 생성
+// cdsArchive 결과(build/cds: 추출된 jar + lib/ + app.jsa)를 자식 JVM으로 매 회 새로 기동 → 기동 시작부터 /actuator/health 200 까지 + 첫 실제 API 응답까지 시간 비교
+// lazy-initialization 은 컨트롤러/서비스/리포지토리 초기화를 첫 요청으로 미룸 → health 시간만으로는 지연된 비용이 빠짐, 판정은 첫 API 응답 기준
+// {{resourceName}}: 대표 도메인의 목록 API (GET /api/v1/{{resourceName}}?size=1, DB 에 테이블이 있어야 200)
+// baseline: 플래그 없음 / fast-startup: -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true + fast-startup 프로파일
+// 결과: build/reports/startup-time.json (실행마다 덮어쓰는 단일 JSON 문서)
+// 의존성: spring-boot-starter-actuator, DB 접속 정보는 환경 변수(SPRING_DATASOURCE_*)로 자식 프로세스에 전달
+// 실행: ./gradlew benchmarkTest (기본 test 태스크는 excludeTags 'benchmark' → /gradle 태그 분리, cdsArchive 선행은 /gradle startup 참고)
+
+/*
+package {{basePackage}};
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+class StartupTimeBenchmarkTest {
+
+    private static final Path CDS_DIR = Path.of("build/cds");
+    private static final Path REPORT = Path.of("build/reports/startup-time.json");
+    private static final int RUNS = 5;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String FIRST_REQUEST_PATH = "/api/v1/{{resourceName}}?size=1";
+    private static final List<String> FAST_STARTUP_FLAGS = List.of(
+            "-XX:SharedArchiveFile=app.jsa",
+            "-Dspring.aot.enabled=true",
+            "-Dspring.profiles.active=fast-startup");
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("AOT + CDS 기동이 기본 기동보다 첫 요청까지 빠르다")
+    void timeToFirstRequest() throws Exception {
+        var jar = extractedJar();
+        var baseline = new StartupSample[RUNS];
+        var fastStartup = new StartupSample[RUNS];
+
+        // 매 회 새 JVM 으로 교차 실행 → 같은 JVM 의 클래스 로딩/JIT 상태가 다음 측정에 섞이지 않음
+        for (int i = 0; i < RUNS; i++) {
+            baseline[i] = measureStartup(jar, List.of());
+            fastStartup[i] = measureStartup(jar, FAST_STARTUP_FLAGS);
+        }
+
+        var baselineFirstRequest = millis(baseline, StartupSample::firstRequestMs);
+        var fastStartupFirstRequest = millis(fastStartup, StartupSample::firstRequestMs);
+        var baselineHealth = millis(baseline, StartupSample::healthMs);
+        var fastStartupHealth = millis(fastStartup, StartupSample::healthMs);
+
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, """
+                {"runs": %d, "firstRequestPath": "%s", \
+                "baselineHealthMedianMs": %d, "fastStartupHealthMedianMs": %d, \
+                "baselineFirstRequestMedianMs": %d, "fastStartupFirstRequestMedianMs": %d, \
+                "baselineHealthMs": %s, "fastStartupHealthMs": %s, \
+                "baselineFirstRequestMs": %s, "fastStartupFirstRequestMs": %s}
+                """.formatted(RUNS, FIRST_REQUEST_PATH,
+                median(baselineHealth), median(fastStartupHealth),
+                median(baselineFirstRequest), median(fastStartupFirstRequest),
+                Arrays.toString(baselineHealth), Arrays.toString(fastStartupHealth),
+                Arrays.toString(baselineFirstRequest), Arrays.toString(fastStartupFirstRequest)));
+
+        // 절대 시간 예산 대신 같은 머신의 상대 비교 → CI 머신 성능 편차에 영향받지 않음
+        // health 가 아닌 첫 API 응답 기준 → lazy-init 이 첫 요청으로 떠넘긴 빈 초기화 비용까지 포함
+        assertThat(median(fastStartupFirstRequest)).isLessThan(median(baselineFirstRequest));
+    }
+
+    private StartupSample measureStartup(Path jar, List<String> jvmFlags) throws Exception {
+        var port = freePort();
+        var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmFlags);
+        command.addAll(List.of("-jar", jar.getFileName().toString(), "--server.port=" + port));
+        var health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                .timeout(Duration.ofSeconds(1))
+                .build();
+        // 첫 요청은 지연된 빈 초기화 + 커넥션 획득을 포함 → 넉넉한 타임아웃
+        var firstRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + FIRST_REQUEST_PATH))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+
+        var start = System.nanoTime();
+        // 학습 실행(cdsArchive)과 같은 작업 디렉터리 + 같은 jar 이름 → 클래스패스 불일치로 CDS 가 무시되지 않음
+        var process = new ProcessBuilder(command)
+                .directory(CDS_DIR.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(CDS_DIR.resolve("startup-benchmark.log").toFile())
+                .start();
+        try {
+            while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("기동 실패 (exit=%d) → %s 확인"
+                            .formatted(process.exitValue(), CDS_DIR.resolve("startup-benchmark.log")));
+                }
+                try {
+                    if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        var healthMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+                        var status = client.send(firstRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status != 200) {
+                            throw new IllegalStateException("첫 요청 실패 (GET %s → %d)".formatted(FIRST_REQUEST_PATH, status));
+                        }
+                        return new StartupSample(healthMs, Duration.ofNanos(System.nanoTime() - start).toMillis());
+                    }
+                } catch (IOException e) {
+                    // 포트가 아직 열리지 않음
+                }
+                Thread.sleep(20);
+            }
+            throw new IllegalStateException("기동 타임아웃: " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static Path extractedJar() throws IOException {
+        if (!Files.exists(CDS_DIR.resolve("app.jsa"))) {
+            throw new IllegalStateException("build/cds/app.jsa 없음 → ./gradlew cdsArchive 선행");
+        }
+        try (var files = Files.list(CDS_DIR)) {
+            return files.filter(file -> file.toString().endsWith(".jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("build/cds 에 추출된 jar 없음"));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long[] millis(StartupSample[] samples, ToLongFunction<StartupSample> metric) {
+        return Arrays.stream(samples).mapToLong(metric).toArray();
+    }
+
+    private static long median(long[] samples) {
+        var sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private record StartupSample(long healthMs, long firstRequestMs) {
+    }
+}
+*/
@@ -2,6 +2,8 @@ package {{basePackage}}.domain.{{domainNameLower}}.controller;
 
 import {{basePackage}}.domain.{{domainNameLower}}.dto.Create{{EntityName}}Request;
 import {{basePackage}}.domain.{{domainNameLower}}.dto.Update{{EntityName}}Request;
+import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}BatchGetRequest;
+import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}BatchResponse;
 import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}Response;
 import {{basePackage}}.domain.{{domainNameLower}}.service.{{EntityName}}Service;
 import jakarta.validation.Valid;
@@ -12,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/{{resourceName}}")
@@ -33,6 +36,16 @@ public class {{EntityName}}Controller {
         return {{entityName}}Service.findById(id);
     }
 
+    @GetMapping(params = "ids")
+    {{EntityName}}BatchResponse findAllById(@RequestParam List<Long> ids) {
+        return {{entityName}}Service.findAllById(ids);
+    }
+
+    @PostMapping("/batch-get")
+    {{EntityName}}BatchResponse batchGet(@Valid @RequestBody {{EntityName}}BatchGetRequest request) {
+        return {{entityName}}Service.findAllById(request.ids());
+    }
+
     @GetMapping
     Page<{{EntityName}}Response> findAll(Pageable pageable) {
         return {{entityName}}Service.findAll(pageable);
@@ -51,3 +64,60 @@ public class {{EntityName}}Controller {
         return ResponseEntity.noContent().build();
     }
 }
+
+// -- 파티션 테이블 (/entity --partitioned): 조회/수정/삭제 엔드포인트를 아래로 교체 --
+// ?from=&to= (ISO-8601, [from, to)) 미지정 시 {{EntityName}}CreatedAtRange 기본 창 → 항상 범위 조건 포함 쿼리로 위임
+// import: {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}CreatedAtRange,
+//         org.springframework.format.annotation.DateTimeFormat, java.time.LocalDateTime
+
+/*
+    @GetMapping("/{id}")
+    {{EntityName}}Response findById(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return {{entityName}}Service.findById(id, {{EntityName}}CreatedAtRange.of(from, to));
+    }
+
+    @GetMapping(params = "ids")
+    {{EntityName}}BatchResponse findAllById(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return {{entityName}}Service.findAllById(ids, {{EntityName}}CreatedAtRange.of(from, to));
+    }
+
+    @PostMapping("/batch-get")
+    {{EntityName}}BatchResponse batchGet(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Valid @RequestBody {{EntityName}}BatchGetRequest request) {
+        return {{entityName}}Service.findAllById(request.ids(), {{EntityName}}CreatedAtRange.of(from, to));
+    }
+
+    @GetMapping
+    Page<{{EntityName}}Response> findAll(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            Pageable pageable) {
+        return {{entityName}}Service.findAll({{EntityName}}CreatedAtRange.of(from, to), pageable);
+    }
+
+    @PutMapping("/{id}")
+    {{EntityName}}Response update(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Valid @RequestBody Update{{EntityName}}Request request) {
+        return {{entityName}}Service.update(id, {{EntityName}}CreatedAtRange.of(from, to), request);
+    }
+
+    @DeleteMapping("/{id}")
+    ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        {{entityName}}Service.delete(id, {{EntityName}}CreatedAtRange.of(from, to));
+        return ResponseEntity.noContent().build();
+    }
+*/
@@ -4,6 +4,9 @@ import {{basePackage}}.domain.{{domainNameLower}}.entity.{{EntityName}};
 import jakarta.validation.constraints.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 // -- Request DTOs (record) --
 
@@ -22,12 +25,18 @@ public record Update{{EntityName}}Request(
 ) {}
 
 // -- Response DTO (record + 정적 팩토리) --
+// responseFields는 스칼라 필드만, 연관관계는 id만 매핑 → from()이 지연 로딩 프록시를 초기화하지 않음
+// (Hibernate 프록시의 getId()는 초기화 없이 식별자 반환)
+// 컴포넌트 순서 = QueryDSL Projections.constructor() 인자 순서 → 엔티티 로드 없는 프로젝션에도 같은 record 재사용
 
 public record {{EntityName}}Response(
         Long id,
 {{#responseFields}}
         {{type}} {{name}},
 {{/responseFields}}
+{{#relations}}
+        Long {{targetName}}Id,
+{{/relations}}
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
@@ -37,8 +46,175 @@ public record {{EntityName}}Response(
 {{#responseFields}}
                 {{entityName}}.get{{NameCapital}}(),
 {{/responseFields}}
+{{#relations}}
+                {{entityName}}.get{{TargetNameCapital}}() != null ? {{entityName}}.get{{TargetNameCapital}}().getId() : null,
+{{/relations}}
                 {{entityName}}.getCreatedAt(),
                 {{entityName}}.getUpdatedAt()
         );
     }
 }
+
+
+// -- DTO 매핑 빌드 검증 (ArchUnit) --
+// 아래 코드는 src/test/java/{{basePackage}}/DtoMappingArchTest.java 로 생성
+// 의존성: testImplementation 'com.tngtech.archunit:archunit-junit5:1.3.0'
+// Response.from()이 연관 엔티티의 getId() 외 메서드나 컬렉션 연관관계를 호출하면 ./gradlew test 실패
+// 중첩 DTO 매핑(AuthorResponse.from(book.getAuthor()), new AuthorSummary(author))처럼 엔티티를 다른 코드로 넘기는 경우도 실패
+// 한계: 바이트코드 기준 판정 → 자기 참조 연관관계(Category.getParent())의 결과 사용, Object 타입 파라미터로 넘기는 경우는 검출하지 않음
+
+/*
+package {{basePackage}};
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaCall;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.JavaMethodCall;
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.junit.AnalyzeClasses;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.syntax.elements.GivenMethodsConjunction;
+import jakarta.persistence.Entity;
+
+import java.util.Collection;
+import java.util.Map;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noMethods;
+
+@AnalyzeClasses(packages = "{{basePackage}}", importOptions = ImportOption.DoNotIncludeTests.class)
+class DtoMappingArchTest {
+
+    @ArchTest
+    static final ArchRule responseFromDoesNotInitializeLazyAssociations = responseFromMethods()
+            .should().callMethodWhere(initializesLazyAssociation())
+            .because("Response.from()은 스칼라 필드와 연관관계 id만 매핑해야 합니다 (지연 로딩 초기화 금지)");
+
+    @ArchTest
+    static final ArchRule responseFromDoesNotPassEntitiesToNestedMapping = responseFromMethods()
+            .should().callCodeUnitWhere(passesEntityToNonEntityCode())
+            .because("중첩 DTO 매핑은 연관 엔티티 프록시를 초기화합니다 → 연관관계는 id만 매핑하거나 fetch join 전용 조회 DTO를 사용하세요");
+
+    @ArchTest
+    static final ArchRule responseFromUsesOnlyIdOfAssociations = responseFromMethods()
+            .should().callMethodWhere(readsAssociationBeyondId())
+            .because("연관 엔티티 getter 의 결과에는 getId()만 호출할 수 있습니다");
+
+    // from(Entity) 단일 파라미터만 대상 → 아래 predicate 의 getRawParameterTypes().getFirst() 가 항상 안전
+    private static GivenMethodsConjunction responseFromMethods() {
+        return noMethods()
+                .that().areDeclaredInClassesThat().haveSimpleNameEndingWith("Response")
+                .and().haveName("from")
+                .and(DescribedPredicate.describe("have exactly one parameter",
+                        (JavaMethod method) -> method.getRawParameterTypes().size() == 1));
+    }
+
+    private static DescribedPredicate<JavaMethodCall> initializesLazyAssociation() {
+        return DescribedPredicate.describe("연관 엔티티의 getId() 외 호출 또는 컬렉션 연관관계 접근", call -> {
+            var target = call.getTarget();
+            var owner = target.getOwner();
+            var mapped = mappedType(call.getOrigin());
+            if (owner.isAnnotatedWith(Entity.class) && !owner.equals(mapped)) {
+                return !target.getName().equals("getId");
+            }
+            var returnType = target.getRawReturnType();
+            return owner.equals(mapped)
+                    && (returnType.isAssignableTo(Collection.class) || returnType.isAssignableTo(Map.class));
+        });
+    }
+
+    private static DescribedPredicate<JavaCall<?>> passesEntityToNonEntityCode() {
+        return DescribedPredicate.describe("엔티티 타입 인자를 받는 엔티티 외 메서드/생성자 호출", call -> {
+            var target = call.getTarget();
+            return !target.getOwner().isAnnotatedWith(Entity.class)
+                    && target.getRawParameterTypes().stream().anyMatch(type -> type.isAnnotatedWith(Entity.class));
+        });
+    }
+
+    private static DescribedPredicate<JavaMethodCall> readsAssociationBeyondId() {
+        return DescribedPredicate.describe("매핑 대상 엔티티의 연관 엔티티 getter 결과를 getId() 외로 사용", call -> {
+            var origin = call.getOrigin();
+            var association = call.getTarget().getRawReturnType();
+            if (!call.getTarget().getOwner().equals(mappedType(origin))
+                    || !association.isAnnotatedWith(Entity.class)
+                    || association.equals(mappedType(origin))) {
+                return false;
+            }
+            var callsBeyondId = origin.getMethodCallsFromSelf().stream()
+                    .anyMatch(other -> other.getTarget().getOwner().equals(association)
+                            && !other.getTarget().getName().equals("getId"));
+            var referencesBeyondId = origin.getMethodReferencesFromSelf().stream()
+                    .anyMatch(reference -> reference.getTarget().getOwner().equals(association)
+                            && !reference.getTarget().getName().equals("getId"));
+            var passedAsSupertype = origin.getCallsFromSelf().stream()
+                    .filter(other -> !other.getTarget().getOwner().isAnnotatedWith(Entity.class))
+                    .flatMap(other -> other.getTarget().getRawParameterTypes().stream())
+                    .anyMatch(type -> !type.isEquivalentTo(Object.class) && association.isAssignableTo(type.getName()));
+            return callsBeyondId || referencesBeyondId || passedAsSupertype;
+        });
+    }
+
+    private static JavaClass mappedType(JavaCodeUnit from) {
+        return from.getRawParameterTypes().getFirst();
+    }
+}
+*/
+
+// -- 다건 조회 DTO (POST /batch-get 요청, GET ?ids= / POST /batch-get 응답) --
+
+public record {{EntityName}}BatchGetRequest(
+        @NotEmpty List<@NotNull Long> ids
+) {}
+
+public record {{EntityName}}BatchResponse(
+        List<{{EntityName}}Response> content,
+        List<Long> missingIds
+) {
+    // 요청 ID 순서 유지, 조회되지 않은 ID는 missingIds로 보고
+    public static {{EntityName}}BatchResponse of(List<Long> requestedIds, Map<Long, {{EntityName}}Response> found) {
+        var content = new ArrayList<{{EntityName}}Response>(found.size());
+        var missingIds = new ArrayList<Long>();
+        for (var id : requestedIds) {
+            var response = found.get(id);
+            if (response != null) {
+                content.add(response);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new {{EntityName}}BatchResponse(content, missingIds);
+    }
+}
+
+// -- 파티션 조회 범위 (/entity --partitioned) --
+// 아래 코드는 dto/{{EntityName}}CreatedAtRange.java 로 생성
+// 미지정 시 기본 창: 다음 달 1일 기준 최근 N개월 → 미리 생성된 파티션 안에서만 조회되어 DEFAULT 파티션까지 프루닝
+// N은 app.partition.{{domainNameLower}}.retention-months 이하로 유지 (DETACH 된 월이 포함되면 DEFAULT 스캔)
+
+/*
+package {{basePackage}}.domain.{{domainNameLower}}.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record {{EntityName}}CreatedAtRange(
+        LocalDateTime from,
+        LocalDateTime to
+) {
+    private static final int DEFAULT_WINDOW_MONTHS = 3;
+
+    public {{EntityName}}CreatedAtRange {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from은 to 이전이어야 합니다");
+        }
+    }
+
+    public static {{EntityName}}CreatedAtRange of(LocalDateTime from, LocalDateTime to) {
+        var end = to != null ? to : LocalDate.now().withDayOfMonth(1).plusMonths(1).atStartOfDay();
+        var start = from != null ? from : end.minusMonths(DEFAULT_WINDOW_MONTHS);
+        return new {{EntityName}}CreatedAtRange(start, end);
+    }
+}
+*/
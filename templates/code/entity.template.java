@@ -78,3 +78,117 @@ public class {{EntityName}} {{#hasBaseEntity}}extends BaseEntity {{/hasBaseEntit
 
 {{/softDelete}}
 }
+
+// -- 시간 범위 파티셔닝 (--partitioned, PostgreSQL 12+) --
+// append 위주 대용량 도메인: BaseEntity.createdAt 기준 월 단위 RANGE 파티션
+// ddl-auto는 validate/none 유지 → 테이블은 Flyway로만 생성
+// PK에 파티션 키 포함 필수 (PRIMARY KEY (id, created_at)), JPA @Id는 id 단독 유지
+
+// 아래 SQL은 src/main/resources/db/migration/V{n}__create_{{tableName}}_partitioned.sql 로 생성
+
+/*
+CREATE TABLE {{tableName}} (
+    id          BIGSERIAL    NOT NULL,
+    -- Entity @Column 필드 기반 컬럼 DDL
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 범위를 벗어난 행 보호용 (정상 운영 시 비어 있어야 함)
+CREATE TABLE {{tableName}}_default PARTITION OF {{tableName}} DEFAULT;
+
+-- 최초 파티션: 이번 달 ~ 2개월 후 (이후는 {{EntityName}}PartitionMaintenanceJob 이 롤링 생성)
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR i IN 0..2 LOOP
+        month_start := date_trunc('month', now())::date + make_interval(months => i);
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF {{tableName}} FOR VALUES FROM (%L) TO (%L)',
+            '{{tableName}}_' || to_char(month_start, 'YYYY_MM'),
+            month_start,
+            month_start + interval '1 month');
+    END LOOP;
+END $$;
+
+CREATE INDEX idx_{{tableName}}_created_at ON {{tableName}} (created_at);
+*/
+
+// 아래 코드는 domain/{{domainNameLower}}/job/{{EntityName}}PartitionMaintenanceJob.java 로 생성
+// 의존성: @EnableScheduling (Application 또는 common/config)
+
+/*
+package {{basePackage}}.domain.{{domainNameLower}}.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class {{EntityName}}PartitionMaintenanceJob {
+
+    private static final String TABLE = "{{tableName}}";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.partition.{{domainNameLower}}.months-ahead:2}")
+    private int monthsAhead;
+
+    @Value("${app.partition.{{domainNameLower}}.retention-months:12}")
+    private int retentionMonths;
+
+    // 매일 03:00 — 다중 인스턴스에서도 advisory lock 으로 1개 인스턴스만 실행
+    @Scheduled(cron = "${app.partition.{{domainNameLower}}.cron:0 0 3 * * *}")
+    @Transactional
+    public void maintain() {
+        var locked = jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, TABLE);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        var thisMonth = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(thisMonth.plusMonths(i));
+        }
+        detachOlderThan(thisMonth.minusMonths(retentionMonths));
+    }
+
+    private void createPartition(LocalDate monthStart) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s_%s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                .formatted(TABLE, monthStart.format(SUFFIX), TABLE, monthStart, monthStart.plusMonths(1)));
+    }
+
+    // 보존 기간이 지난 파티션은 DETACH 후 archive 스키마로 이동 (DROP 은 백업 확인 후 수동)
+    private void detachOlderThan(LocalDate cutoff) {
+        var partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = ? AND c.relname ~ '_[0-9]{4}_[0-9]{2}$'
+                """, String.class, TABLE);
+        for (var partition : partitions) {
+            var suffix = partition.substring(partition.length() - 7);
+            var monthStart = LocalDate.parse(suffix + "_01", DateTimeFormatter.ofPattern("yyyy_MM_dd"));
+            if (monthStart.isBefore(cutoff)) {
+                jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s".formatted(TABLE, partition));
+                jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS archive");
+                jdbcTemplate.execute("ALTER TABLE %s SET SCHEMA archive".formatted(partition));
+                log.info("파티션 아카이브: {} → archive.{}", partition, partition);
+            }
+        }
+    }
+}
+*/
@@ -1,16 +1,27 @@
 package {{basePackage}}.domain.{{domainNameLower}}.exception;
 
 // -- 도메인별 커스텀 예외 (각 도메인 패키지 내부) --
+// 404는 정상 흐름 → 스택 트레이스 미수집 (writableStackTrace=false)
+// 메시지는 첫 getMessage() 호출 시 한 번만 포맷 후 재사용 (핸들러가 ProblemDetail detail로 항상 사용)
 
 public class {{EntityName}}NotFoundException extends RuntimeException {
 
     private final Long id;
+    private String message;
 
     public {{EntityName}}NotFoundException(Long id) {
-        super("{{EntityName}} with id %d was not found".formatted(id));
+        super(null, null, false, false);
         this.id = id;
     }
 
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = "{{EntityName}} with id " + id + " was not found";
+        }
+        return message;
+    }
+
     public Long getId() {
         return id;
     }
@@ -29,6 +40,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -36,9 +49,17 @@ import lombok.extern.slf4j.Slf4j;
 @RestControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    // 404 로그 샘플링: 1초 창마다 최대 N건만 warn, 초과분은 다음 창에서 건수만 요약
+    private static final int NOT_FOUND_LOGS_PER_SECOND = 10;
+
+    private final AtomicLong notFoundWindow = new AtomicLong();
+    private final AtomicInteger notFoundInWindow = new AtomicInteger();
+
     @ExceptionHandler({{EntityName}}NotFoundException.class)
     ProblemDetail handleNotFound({{EntityName}}NotFoundException ex) {
-        log.warn("리소스를 찾을 수 없음: {}", ex.getMessage());
+        if (shouldLogNotFound()) {
+            log.warn("리소스를 찾을 수 없음: {{EntityName}} id={}", ex.getId());
+        }
 
         var pd = ProblemDetail.forStatusAndDetail(
                 HttpStatus.NOT_FOUND, ex.getMessage());
@@ -63,5 +84,143 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ProblemDetail.forStatusAndDetail(
                 HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다");
     }
+
+    private boolean shouldLogNotFound() {
+        long now = System.currentTimeMillis() / 1_000;
+        long window = notFoundWindow.get();
+        if (window != now && notFoundWindow.compareAndSet(window, now)) {
+            int suppressed = notFoundInWindow.getAndSet(0) - NOT_FOUND_LOGS_PER_SECOND;
+            if (suppressed > 0) {
+                log.warn("리소스를 찾을 수 없음: 직전 1초간 {}건 로그 생략", suppressed);
+            }
+        }
+        return notFoundInWindow.incrementAndGet() <= NOT_FOUND_LOGS_PER_SECOND;
+    }
+}
+*/
+
+// -- 404 처리량 벤치마크 (JMH) --
+// 아래 코드는 src/jmh/java/{{basePackage}}/domain/{{domainNameLower}}/exception/{{EntityName}}NotFoundBenchmark.java 로 생성
+// 플러그인: id 'me.champeau.jmh' version '0.7.2' → ./gradlew jmh
+// 기존 방식(스택 트레이스 + String.formatted) 대비 stackless 예외 비교
+// 예외 비용만 측정: throw → catch → getMessage() (핸들러·로깅은 아래 {{EntityName}}NotFoundHandlerBenchmark)
+
+/*
+package {{basePackage}}.domain.{{domainNameLower}}.exception;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class {{EntityName}}NotFoundBenchmark {
+
+    // 비교 기준: 변경 전 예외 구현
+    static class Legacy{{EntityName}}NotFoundException extends RuntimeException {
+        Legacy{{EntityName}}NotFoundException(Long id) {
+            super("{{EntityName}} with id %d was not found".formatted(id));
+        }
+    }
+
+    private long id;
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        try {
+            throw new Legacy{{EntityName}}NotFoundException(++id);
+        } catch (RuntimeException ex) {
+            bh.consume(ex.getMessage());
+        }
+    }
+
+    @Benchmark
+    public void stackless(Blackhole bh) {
+        try {
+            throw new {{EntityName}}NotFoundException(++id);
+        } catch (RuntimeException ex) {
+            bh.consume(ex.getMessage());
+        }
+    }
+}
+*/
+
+// -- 404 핸들러 경로 벤치마크 (JMH) --
+// 아래 코드는 src/jmh/java/{{basePackage}}/common/exception/{{EntityName}}NotFoundHandlerBenchmark.java 로 생성
+// throw → catch → GlobalExceptionHandler.handleNotFound() (실제 SLF4J 로거, 애플리케이션 logback 설정 그대로)
+// 기존: 스택 트레이스 예외 + 404마다 WARN / 변경: stackless 예외 + 초당 샘플링 WARN
+// @Threads(4): 동시 404 트래픽 → 로그 appender 경합까지 포함
+
+/*
+package {{basePackage}}.common.exception;
+
+import {{basePackage}}.domain.{{domainNameLower}}.exception.{{EntityName}}NotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class {{EntityName}}NotFoundHandlerBenchmark {
+
+    // 비교 기준: 변경 전 예외 + 핸들러 (404마다 WARN)
+    static class Legacy{{EntityName}}NotFoundException extends RuntimeException {
+        Legacy{{EntityName}}NotFoundException(Long id) {
+            super("{{EntityName}} with id %d was not found".formatted(id));
+        }
+    }
+
+    static class LegacyHandler {
+        private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+        ProblemDetail handleNotFound(Legacy{{EntityName}}NotFoundException ex, long id) {
+            log.warn("리소스를 찾을 수 없음: {}", ex.getMessage());
+            var pd = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+            pd.setTitle("{{EntityName}} Not Found");
+            pd.setType(URI.create("/errors/{{domainNameLower}}-not-found"));
+            pd.setProperty("{{entityName}}Id", id);
+            return pd;
+        }
+    }
+
+    private final AtomicLong ids = new AtomicLong();
+    private final LegacyHandler legacyHandler = new LegacyHandler();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        var id = ids.incrementAndGet();
+        try {
+            throw new Legacy{{EntityName}}NotFoundException(id);
+        } catch (Legacy{{EntityName}}NotFoundException ex) {
+            bh.consume(legacyHandler.handleNotFound(ex, id));
+        }
+    }
+
+    @Benchmark
+    public void current(Blackhole bh) {
+        try {
+            throw new {{EntityName}}NotFoundException(ids.incrementAndGet());
+        } catch ({{EntityName}}NotFoundException ex) {
+            bh.consume(handler.handleNotFound(ex));
+        }
+    }
 }
 */
@@ -0,0 +1,359 @@
+package {{basePackage}}.common.observability;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// -- 요청 단위 타임라인 (controller → service → SQL) --
+// 느린 엔드포인트에서 getById 로드 / Response.from 지연 로딩 / 직렬화 중 어디가 병목인지 구분
+// 요청 스레드 ThreadLocal 기반 → 다른 스레드(@Async, CompletableFuture)에서 실행된 SQL은 기록되지 않음
+
+public final class RequestTimeline {
+
+    private static final ThreadLocal<RequestTimeline> CURRENT = new ThreadLocal<>();
+
+    private final String request;
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final List<Step> steps = new ArrayList<>();
+    private Step lastSql;
+
+    private RequestTimeline(String request) {
+        this.request = request;
+    }
+
+    public static RequestTimeline start(String request) {
+        var timeline = new RequestTimeline(request);
+        CURRENT.set(timeline);
+        return timeline;
+    }
+
+    public static RequestTimeline current() {
+        return CURRENT.get();
+    }
+
+    public void finish() {
+        CURRENT.remove();
+    }
+
+    public Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    public void recordObservation(String name, long startedNanos, long durationNanos) {
+        steps.add(new Step("observation", name, offsetMillis(startedNanos), durationNanos / 1_000_000, -1));
+    }
+
+    public void recordSql(String sql, long elapsedMillis, long rows) {
+        lastSql = new Step("sql", sql, offsetMillis(System.nanoTime()) - elapsedMillis, elapsedMillis, rows);
+        steps.add(lastSql);
+    }
+
+    // ResultSet.next() 마다 호출 → SELECT 조회 건수
+    public void incrementLastSqlRows() {
+        if (lastSql != null) {
+            lastSql.rows++;
+        }
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(request, startedAt, elapsed().toMillis(), List.copyOf(steps));
+    }
+
+    private long offsetMillis(long nanos) {
+        return (nanos - startNanos) / 1_000_000;
+    }
+
+    @Getter
+    public static final class Step {
+
+        private final String type;
+        private final String name;
+        private final long offsetMs;
+        private final long durationMs;
+        private long rows;
+
+        private Step(String type, String name, long offsetMs, long durationMs, long rows) {
+            this.type = type;
+            this.name = name;
+            this.offsetMs = offsetMs;
+            this.durationMs = durationMs;
+            this.rows = rows;
+        }
+    }
+
+    public record Snapshot(String request, Instant startedAt, long elapsedMs, List<Step> steps) {
+
+        public String format() {
+            var sb = new StringBuilder();
+            for (var step : steps) {
+                sb.append("\n  +%5dms %5dms %-11s %s".formatted(step.getOffsetMs(), step.getDurationMs(), step.getType(), step.getName()));
+                if (step.getRows() >= 0) {
+                    sb.append(" (rows=").append(step.getRows()).append(')');
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
+
+// -- datasource-proxy 리스너: SQL별 소요 시간 + 처리 건수 --
+// 아래 코드는 common/observability/TimelineQueryListener.java 로 생성
+// 의존성: net.ttddyy:datasource-proxy:1.10
+
+/*
+package {{basePackage}}.common.observability;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TimelineQueryListener implements QueryExecutionListener, MethodExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        var timeline = RequestTimeline.current();
+        if (timeline == null) {
+            return;
+        }
+        var sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        // executeUpdate → 반영 건수, executeQuery → ResultSet.next() 로 누적
+        var rows = execInfo.getResult() instanceof Integer updated ? updated : 0;
+        timeline.recordSql(sql, execInfo.getElapsedTime(), rows);
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            var timeline = RequestTimeline.current();
+            if (timeline != null) {
+                timeline.incrementLastSqlRows();
+            }
+        }
+    }
+}
+*/
+
+// -- Micrometer Observation 핸들러: http.server.requests, @Observed 서비스 구간 기록 --
+// 아래 코드는 common/observability/TimelineObservationHandler.java 로 생성
+
+/*
+package {{basePackage}}.common.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+
+public class TimelineObservationHandler implements ObservationHandler<Observation.Context> {
+
+    private static final String STARTED_NANOS = TimelineObservationHandler.class.getName() + ".started";
+
+    @Override
+    public void onStart(Observation.Context context) {
+        if (RequestTimeline.current() != null) {
+            context.put(STARTED_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        var timeline = RequestTimeline.current();
+        Long started = context.get(STARTED_NANOS);
+        if (timeline != null && started != null) {
+            var name = context.getContextualName() != null ? context.getContextualName() : context.getName();
+            timeline.recordObservation(name, started, System.nanoTime() - started);
+        }
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return true;
+    }
+}
+*/
+
+// -- 느린 요청 필터: 임계치 초과 시 SQL 내역과 함께 로그 + 최근 목록 보관 --
+// 아래 코드는 common/observability/RequestTimelineFilter.java 로 생성
+
+/*
+package {{basePackage}}.common.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RequestTimelineFilter extends OncePerRequestFilter {
+
+    private final SlowRequestEndpoint slowRequests;
+    private final Duration slowThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var timeline = RequestTimeline.start(request.getMethod() + " " + request.getRequestURI());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            timeline.finish();
+            if (timeline.elapsed().compareTo(slowThreshold) > 0) {
+                var snapshot = timeline.snapshot();
+                log.warn("느린 요청: {} {}ms{}", snapshot.request(), snapshot.elapsedMs(), snapshot.format());
+                slowRequests.add(snapshot);
+            }
+        }
+    }
+}
+*/
+
+// -- Actuator 엔드포인트: GET /actuator/slowrequests --
+// 아래 코드는 common/observability/SlowRequestEndpoint.java 로 생성
+
+/*
+package {{basePackage}}.common.observability;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+@Endpoint(id = "slowrequests")
+public class SlowRequestEndpoint {
+
+    private static final int CAPACITY = 100;
+
+    private final ArrayDeque<RequestTimeline.Snapshot> recent = new ArrayDeque<>(CAPACITY);
+
+    public synchronized void add(RequestTimeline.Snapshot snapshot) {
+        if (recent.size() == CAPACITY) {
+            recent.removeLast();
+        }
+        recent.addFirst(snapshot);
+    }
+
+    @ReadOperation
+    public synchronized List<RequestTimeline.Snapshot> recent() {
+        return List.copyOf(recent);
+    }
+}
+*/
+
+// -- 설정 --
+// 아래 코드는 common/config/RequestTimelineConfig.java 로 생성
+// app.tracing.timeline.enabled=true 일 때만 DataSource 프록시 적용 (운영 상시 활성화 시 오버헤드 측정 후 결정)
+// 서비스 구간 기록: {{EntityName}}Service 클래스에 @Observed(name = "{{domainNameLower}}.service") (의존성: spring-boot-starter-aop)
+
+/*
+package {{basePackage}}.common.config;
+
+import {{basePackage}}.common.observability.RequestTimelineFilter;
+import {{basePackage}}.common.observability.SlowRequestEndpoint;
+import {{basePackage}}.common.observability.TimelineObservationHandler;
+import {{basePackage}}.common.observability.TimelineQueryListener;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.tracing.timeline.enabled", havingValue = "true")
+public class RequestTimelineConfig {
+
+    @Bean
+    static BeanPostProcessor timelineDataSourceProxy() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    var listener = new TimelineQueryListener();
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener)
+                            .methodListener(listener)
+                            .proxyResultSet()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    TimelineObservationHandler timelineObservationHandler() {
+        return new TimelineObservationHandler();
+    }
+
+    @Bean
+    ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    @Bean
+    SlowRequestEndpoint slowRequestEndpoint() {
+        return new SlowRequestEndpoint();
+    }
+
+    // http.server.requests 관측 필터보다 먼저 실행되어야 컨트롤러 구간까지 기록됨
+    @Bean
+    FilterRegistrationBean<RequestTimelineFilter> requestTimelineFilter(
+            SlowRequestEndpoint slowRequestEndpoint,
+            @Value("${app.tracing.timeline.slow-threshold:500ms}") Duration slowThreshold) {
+        var registration = new FilterRegistrationBean<>(new RequestTimelineFilter(slowRequestEndpoint, slowThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
+*/
+
+// application.yml
+
+/*
+app:
+  tracing:
+    timeline:
+      enabled: true
+      slow-threshold: 500ms
+
+management:
+  endpoints:
+    web:
+      exposure:
+        include: health, info, metrics, slowrequests
+*/
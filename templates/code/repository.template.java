@@ -5,8 +5,17 @@ import {{basePackage}}.domain.{{domainNameLower}}.exception.{{EntityName}}NotFou
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+{{#partitioned}}
+import org.springframework.data.jpa.repository.Modifying;
+{{/partitioned}}
 import org.springframework.data.jpa.repository.Query;
+{{#partitioned}}
+import org.springframework.data.repository.query.Param;
+{{/partitioned}}
 
+{{#partitioned}}
+import java.time.LocalDateTime;
+{{/partitioned}}
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +34,41 @@ public interface {{EntityName}}Repository extends JpaRepository<{{EntityName}},
     {{returnType}} {{methodName}}({{#params}}{{type}} {{name}}{{^last}}, {{/last}}{{/params}});
 
 {{/queryMethods}}
+{{#partitioned}}
+    // -- 파티션 프루닝: 모든 조회/수정/삭제에 created_at [from, to) 범위 포함 --
+    // 범위 없는 상속 메서드(findById, findAll, save 후 dirty checking UPDATE, delete)는 DEFAULT 포함 전체 파티션 스캔
+    // → 서비스/컨트롤러는 파티션 변형(service/controller 템플릿)만 사용
+
+    Page<{{EntityName}}> findByCreatedAtGreaterThanEqualAndCreatedAtLessThan(
+            LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    Optional<{{EntityName}}> findByIdAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(
+            Long id, LocalDateTime from, LocalDateTime to);
+
+    List<{{EntityName}}> findByIdInAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(
+            List<Long> ids, LocalDateTime from, LocalDateTime to);
+
+    default {{EntityName}} getById(Long id, LocalDateTime from, LocalDateTime to) {
+        return findByIdAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(id, from, to)
+                .orElseThrow(() -> new {{EntityName}}NotFoundException(id));
+    }
+
+    // 벌크 UPDATE: 엔티티 dirty checking 은 WHERE id = ? 만 생성하므로 범위 조건을 직접 포함
+    // @LastModifiedDate 미적용 → updatedAt 직접 갱신
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update {{EntityName}} e
+            set {{#updateParams}}e.{{name}} = :{{name}}, {{/updateParams}}e.updatedAt = LOCAL DATETIME
+            where e.id = :id and e.createdAt >= :from and e.createdAt < :to
+            """)
+    int updateInRange(@Param("id") Long id, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to{{#updateParams}},
+                      @Param("{{name}}") {{type}} {{name}}{{/updateParams}});
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from {{EntityName}} e where e.id = :id and e.createdAt >= :from and e.createdAt < :to")
+    int deleteInRange(@Param("id") Long id, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+{{/partitioned}}
 
     // -- Interface-based Projection 예시 --
     // 필요한 필드만 조회하여 성능 최적화
@@ -62,6 +106,7 @@ public interface {{EntityName}}Repository extends JpaRepository<{{EntityName}},
 //
 // import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}Response;
 // import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}SearchCondition;
+// import com.querydsl.core.types.Predicate;
 // import com.querydsl.core.types.Projections;
 // import com.querydsl.core.types.dsl.BooleanExpression;
 // import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -77,15 +122,19 @@ public interface {{EntityName}}Repository extends JpaRepository<{{EntityName}},
 //
 //     @Override
 //     public Page<{{EntityName}}Response> search({{EntityName}}SearchCondition condition, Pageable pageable) {
+//         // 조건은 한 번만 생성하여 content / count 쿼리가 공유
+//         var where = where(condition);
+//
 //         var content = queryFactory
+//                 // 인자 순서 = {{EntityName}}Response 컴포넌트 순서 (id, 스칼라 필드, 연관관계 id, createdAt, updatedAt)
+//                 // 연관관계는 FK 경로({{entityName}}.관계.id)만 사용 → 조인 없음
 //                 .select(Projections.constructor({{EntityName}}Response.class,
 //                         {{entityName}}.id,
 //                         {{entityName}}.name,
-//                         {{entityName}}.createdAt))
+//                         {{entityName}}.createdAt,
+//                         {{entityName}}.updatedAt))
 //                 .from({{entityName}})
-//                 .where(
-//                         nameContains(condition.name())
-//                 )
+//                 .where(where)
 //                 .offset(pageable.getOffset())
 //                 .limit(pageable.getPageSize())
 //                 .orderBy({{entityName}}.id.desc())
@@ -94,13 +143,17 @@ public interface {{EntityName}}Repository extends JpaRepository<{{EntityName}},
 //         var countQuery = queryFactory
 //                 .select({{entityName}}.count())
 //                 .from({{entityName}})
-//                 .where(
-//                         nameContains(condition.name())
-//                 );
+//                 .where(where);
 //
 //         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
 //     }
 //
+//     private Predicate[] where({{EntityName}}SearchCondition condition) {
+//         return new Predicate[]{
+//                 nameContains(condition.name())
+//         };
+//     }
+//
 //     // BooleanExpression: null 반환 시 where()에서 자동 무시 → 동적 쿼리 핵심
 //     private BooleanExpression nameContains(String name) {
 //         return name != null ? {{entityName}}.name.containsIgnoreCase(name) : null;
@@ -118,6 +171,79 @@ public interface {{EntityName}}Repository extends JpaRepository<{{EntityName}},
 // ─────────────────────────────
 // package {{basePackage}}.domain.{{domainNameLower}}.dto;
 //
+// import java.util.Locale;
+//
 // public record {{EntityName}}SearchCondition(
 //         String name
-// ) {}
+// ) {
+//     // 캐시 키 정규화: 공백/대소문자 차이로 같은 검색이 다른 키가 되지 않도록
+//     public {{EntityName}}SearchCondition normalized() {
+//         var normalizedName = name == null || name.isBlank() ? null : name.strip().toLowerCase(Locale.ROOT);
+//         return new {{EntityName}}SearchCondition(normalizedName);
+//     }
+//
+//     // 전문 검색 분기 판단 (--fulltext): 필드 추가 시 "나머지 필터가 모두 null" 조건도 함께 추가
+//     public boolean hasOnlyText() {
+//         return name != null && !name.isBlank();
+//     }
+// }
+//
+// 5. 전문 검색 (선택, --fulltext postgres|mysql)
+// ─────────────────────────────
+// containsIgnoreCase → lower(name) like '%x%' 는 인덱스 사용 불가 (풀스캔)
+// 대량 텍스트 검색은 DB 전문 검색 인덱스 + 관련도(rank) 정렬로 대체
+//
+// 5-1. Flyway 마이그레이션 (PostgreSQL: tsvector 생성 컬럼 + GIN)
+// src/main/resources/db/migration/V{n}__add_{{tableName}}_fulltext.sql
+//
+// ALTER TABLE {{tableName}}
+//     ADD COLUMN search_vector tsvector
+//     GENERATED ALWAYS AS (to_tsvector('simple', coalesce(name, ''))) STORED;
+// CREATE INDEX idx_{{tableName}}_search_vector ON {{tableName}} USING GIN (search_vector);
+//
+// -- MySQL 8: ngram 파서 (한글 형태소 분리 없이 2-gram 토큰화)
+// -- ALTER TABLE {{tableName}} ADD FULLTEXT INDEX ft_{{tableName}}_name (name) WITH PARSER ngram;
+//
+// 5-2. Repository 네이티브 쿼리 (QueryDSL은 @@ / MATCH 미지원 → @Query nativeQuery)
+//
+// public interface {{EntityName}}Repository
+//         extends JpaRepository<{{EntityName}}, Long>, {{EntityName}}RepositoryCustom {
+//
+//     // PostgreSQL
+//     @Query(value = """
+//             SELECT t.* FROM {{tableName}} t
+//             WHERE t.search_vector @@ websearch_to_tsquery('simple', :query)
+//             ORDER BY ts_rank(t.search_vector, websearch_to_tsquery('simple', :query)) DESC, t.id DESC
+//             """,
+//             countQuery = """
+//             SELECT count(*) FROM {{tableName}} t
+//             WHERE t.search_vector @@ websearch_to_tsquery('simple', :query)
+//             """,
+//             nativeQuery = true)
+//     Page<{{EntityName}}> searchFullText(@Param("query") String query, Pageable pageable);
+//
+//     // MySQL
+//     // @Query(value = """
+//     //         SELECT t.* FROM {{tableName}} t
+//     //         WHERE MATCH(t.name) AGAINST(:query IN NATURAL LANGUAGE MODE)
+//     //         ORDER BY MATCH(t.name) AGAINST(:query IN NATURAL LANGUAGE MODE) DESC, t.id DESC
+//     //         """,
+//     //         countQuery = "SELECT count(*) FROM {{tableName}} t WHERE MATCH(t.name) AGAINST(:query IN NATURAL LANGUAGE MODE)",
+//     //         nativeQuery = true)
+//     // Page<{{EntityName}}> searchFullText(@Param("query") String query, Pageable pageable);
+// }
+//
+// 5-3. {{EntityName}}Service.search() 분기: 텍스트 조건만 있으면 전문 검색, 그 외에는 QueryDSL 유지
+// 5-2 네이티브 쿼리는 name 외 조건을 적용하지 않음 → 다른 필터가 함께 오면 전문 검색으로 보내지 않음 (필터 누락 방지)
+// 다른 필터와 전문 검색을 함께 써야 하면 5-2 쿼리 WHERE에 해당 조건(AND t.status = :status 등)을 직접 추가
+// (정렬은 관련도 순으로 고정 → Pageable은 unsorted 로 전달)
+//
+// @Transactional(readOnly = true)
+// public Page<{{EntityName}}Response> search({{EntityName}}SearchCondition condition, Pageable pageable) {
+//     if (condition.hasOnlyText()) {
+//         var unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+//         return {{entityName}}Repository.searchFullText(condition.name(), unsorted)
+//                 .map({{EntityName}}Response::from);
+//     }
+//     return {{entityName}}Repository.search(condition, pageable);
+// }
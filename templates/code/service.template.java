@@ -3,6 +3,7 @@ package {{basePackage}}.domain.{{domainNameLower}}.service;
 import {{basePackage}}.domain.{{domainNameLower}}.entity.{{EntityName}};
 import {{basePackage}}.domain.{{domainNameLower}}.dto.Create{{EntityName}}Request;
 import {{basePackage}}.domain.{{domainNameLower}}.dto.Update{{EntityName}}Request;
+import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}BatchResponse;
 import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}Response;
 import {{basePackage}}.domain.{{domainNameLower}}.repository.{{EntityName}}Repository;
 import lombok.RequiredArgsConstructor;
@@ -11,10 +12,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 public class {{EntityName}}Service {
 
+    // IN 절 청크 크기 (hibernate.query.in_clause_parameter_padding=true 와 함께 사용 → 2의 거듭제곱으로 패딩)
+    private static final int BATCH_CHUNK_SIZE = 500;
+    private static final int MAX_BATCH_SIZE = 1_000;
+
     private final {{EntityName}}Repository {{entityName}}Repository;
 
     @Transactional
@@ -34,6 +43,21 @@ public class {{EntityName}}Service {
         return {{EntityName}}Response.from({{entityName}});
     }
 
+    @Transactional(readOnly = true)
+    public {{EntityName}}BatchResponse findAllById(List<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회 가능한 ID는 최대 %d개입니다".formatted(MAX_BATCH_SIZE));
+        }
+        var distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        var found = new HashMap<Long, {{EntityName}}Response>(distinctIds.size() * 2);
+        for (int from = 0; from < distinctIds.size(); from += BATCH_CHUNK_SIZE) {
+            var chunk = distinctIds.subList(from, Math.min(from + BATCH_CHUNK_SIZE, distinctIds.size()));
+            {{entityName}}Repository.findAllById(chunk)
+                    .forEach(e -> found.put(e.getId(), {{EntityName}}Response.from(e)));
+        }
+        return {{EntityName}}BatchResponse.of(distinctIds, found);
+    }
+
     @Transactional(readOnly = true)
     public Page<{{EntityName}}Response> findAll(Pageable pageable) {
         return {{entityName}}Repository.findAll(pageable)
@@ -57,3 +81,490 @@ public class {{EntityName}}Service {
         {{entityName}}Repository.delete({{entityName}});
     }
 }
+
+
+// -- 캐시 사용 시 (/cache): findById / findAllById per-id 캐시 우선 조회 --
+// 캐시 이름은 리소스명({{resourceName}}), 키는 id → 단건/다건 조회가 같은 엔트리를 공유
+
+/*
+    private final CacheManager cacheManager;
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "{{resourceName}}", key = "#id")
+    public {{EntityName}}Response findById(Long id) { ... }
+
+    @Transactional(readOnly = true)
+    public {{EntityName}}BatchResponse findAllById(List<Long> ids) {
+        ...
+        var cache = cacheManager.getCache("{{resourceName}}");
+        var found = new HashMap<Long, {{EntityName}}Response>(distinctIds.size() * 2);
+        var misses = new ArrayList<Long>();
+        for (var id : distinctIds) {
+            var cached = cache.get(id, {{EntityName}}Response.class);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        for (int from = 0; from < misses.size(); from += BATCH_CHUNK_SIZE) {
+            var chunk = misses.subList(from, Math.min(from + BATCH_CHUNK_SIZE, misses.size()));
+            {{entityName}}Repository.findAllById(chunk).forEach(e -> {
+                var response = {{EntityName}}Response.from(e);
+                cache.put(e.getId(), response);
+                found.put(e.getId(), response);
+            });
+        }
+        return {{EntityName}}BatchResponse.of(distinctIds, found);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = "{{resourceName}}", key = "#id")
+    public {{EntityName}}Response update(Long id, Update{{EntityName}}Request request) { ... }
+
+    @Transactional
+    @CacheEvict(cacheNames = "{{resourceName}}", key = "#id")
+    public void delete(Long id) { ... }
+*/
+
+// -- 동시 조회 병합 (SingleFlight): 같은 id의 진행 중 로드를 하나의 CompletableFuture로 공유 --
+// 캐시 만료 직후 몰리는 요청(thundering herd)도 DB 조회 1회로 수렴
+// findById 자체는 트랜잭션을 열지 않음 → 대기 중인 요청은 커넥션을 점유하지 않고, 선행 요청만 readOnly 트랜잭션 실행
+// 캐시 사용 시 @Cacheable(sync = true)로 캐시 miss 구간도 키별 직렬화
+
+/*
+    private final {{EntityName}}Repository {{entityName}}Repository;
+    private final TransactionTemplate readOnlyTx;
+    private final SingleFlight<Long, {{EntityName}}Response> inFlightLoads = new SingleFlight<>();
+
+    public {{EntityName}}Service({{EntityName}}Repository {{entityName}}Repository, PlatformTransactionManager transactionManager) {
+        this.{{entityName}}Repository = {{entityName}}Repository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    @Cacheable(cacheNames = "{{resourceName}}", key = "#id", sync = true)
+    public {{EntityName}}Response findById(Long id) {
+        return inFlightLoads.execute(id, () -> readOnlyTx.execute(status ->
+                {{EntityName}}Response.from({{entityName}}Repository.getById(id))));
+    }
+*/
+
+// -- SingleFlight 유틸 --
+// 아래 코드는 common/support/SingleFlight.java 로 생성
+
+/*
+package {{basePackage}}.common.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> loader) {
+        var created = new CompletableFuture<V>();
+        var existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            var value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            created.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            // 완료 즉시 제거 → 결과 보관은 캐시의 역할
+            inFlight.remove(key, created);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
+*/
+
+// -- QueryDSL 검색 결과 캐시 (--querydsl + /cache) --
+// 키: 정규화된 SearchCondition + Pageable(page, size, sort) → 같은 필터 조합은 content/count 쿼리 없이 메모리에서 응답
+// 무효화: 쓰기 메서드에서 검색 캐시 전체 evict (어떤 검색 결과에 포함될지 알 수 없으므로 allEntries)
+// CacheConfig: {{resourceName}}-search 는 짧은 TTL(예: 30s) + maximumSize 로 별도 등록 (Page 직렬화 문제로 Caffeine 권장)
+
+/*
+    private static final String SEARCH_CACHE = "{{resourceName}}-search";
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = SEARCH_CACHE, key = "{#condition.normalized(), #pageable}")
+    public Page<{{EntityName}}Response> search({{EntityName}}SearchCondition condition, Pageable pageable) {
+        return {{entityName}}Repository.search(condition.normalized(), pageable);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = SEARCH_CACHE, allEntries = true)
+    public {{EntityName}}Response create(Create{{EntityName}}Request request) { ... }
+
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "{{resourceName}}", key = "#id"),
+            @CacheEvict(cacheNames = SEARCH_CACHE, allEntries = true)
+    })
+    public {{EntityName}}Response update(Long id, Update{{EntityName}}Request request) { ... }
+
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "{{resourceName}}", key = "#id"),
+            @CacheEvict(cacheNames = SEARCH_CACHE, allEntries = true)
+    })
+    public void delete(Long id) { ... }
+*/
+
+// -- 파티션 테이블 (/entity --partitioned): 조회/수정/삭제 메서드를 아래로 교체 --
+// 모든 쿼리에 created_at 범위 포함 → 파티션 프루닝 (범위 없는 getById/findAll/delete 는 전체 파티션 스캔)
+// 수정/삭제는 범위 조건 포함 벌크 쿼리 → entity.update() 의 검증 로직은 Update{{EntityName}}Request @Valid 로 이동
+// import: {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}CreatedAtRange, {{basePackage}}.domain.{{domainNameLower}}.exception.{{EntityName}}NotFoundException
+
+/*
+    @Transactional(readOnly = true)
+    public {{EntityName}}Response findById(Long id, {{EntityName}}CreatedAtRange range) {
+        var {{entityName}} = {{entityName}}Repository.getById(id, range.from(), range.to());
+        return {{EntityName}}Response.from({{entityName}});
+    }
+
+    @Transactional(readOnly = true)
+    public {{EntityName}}BatchResponse findAllById(List<Long> ids, {{EntityName}}CreatedAtRange range) {
+        ...
+            {{entityName}}Repository.findByIdInAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(chunk, range.from(), range.to())
+                    .forEach(e -> found.put(e.getId(), {{EntityName}}Response.from(e)));
+        ...
+    }
+
+    @Transactional(readOnly = true)
+    public Page<{{EntityName}}Response> findAll({{EntityName}}CreatedAtRange range, Pageable pageable) {
+        return {{entityName}}Repository.findByCreatedAtGreaterThanEqualAndCreatedAtLessThan(range.from(), range.to(), pageable)
+                .map({{EntityName}}Response::from);
+    }
+
+    @Transactional
+    public {{EntityName}}Response update(Long id, {{EntityName}}CreatedAtRange range, Update{{EntityName}}Request request) {
+        var updated = {{entityName}}Repository.updateInRange(id, range.from(), range.to(),
+{{#updateFields}}
+                request.{{name}}(){{^last}},{{/last}}
+{{/updateFields}}
+        );
+        if (updated == 0) {
+            throw new {{EntityName}}NotFoundException(id);
+        }
+        return {{EntityName}}Response.from({{entityName}}Repository.getById(id, range.from(), range.to()));
+    }
+
+    @Transactional
+    public void delete(Long id, {{EntityName}}CreatedAtRange range) {
+        if ({{entityName}}Repository.deleteInRange(id, range.from(), range.to()) == 0) {
+            throw new {{EntityName}}NotFoundException(id);
+        }
+    }
+*/
+
+// -- 쓰기 지연 버퍼 (write-behind, 선택): 고빈도 카운터/상태 갱신 --
+// 조회수(view_count), 마지막 접속 시각(last_seen_at)처럼 초당 수천 건 갱신되는 컬럼은
+// load → modify → flush 트랜잭션 대신 메모리에서 id별로 합산 후 주기적으로 배치 UPDATE
+// 허용 지연: flush 주기(기본 1초) + 인스턴스 비정상 종료 시 미반영분 유실 가능 → 정합성이 중요한 값에는 사용 금지
+// 아래 코드는 domain/{{domainNameLower}}/service/{{EntityName}}WriteBehindBuffer.java 로 생성
+// 의존성: @EnableScheduling
+
+/*
+package {{basePackage}}.domain.{{domainNameLower}}.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class {{EntityName}}WriteBehindBuffer {
+
+    private static final int BATCH_SIZE = 500;
+
+    // ConcurrentHashMap.merge: 버킷 단위 잠금(striped) → 서로 다른 id 갱신은 경합 없음
+    private final ConcurrentHashMap<Long, Long> pendingViewCounts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LocalDateTime> pendingLastSeen = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public {{EntityName}}WriteBehindBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void increaseViewCount(Long id) {
+        pendingViewCounts.merge(id, 1L, Long::sum);
+    }
+
+    public void touchLastSeen(Long id, LocalDateTime seenAt) {
+        pendingLastSeen.merge(id, seenAt, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    @Scheduled(fixedDelayString = "${app.write-behind.{{domainNameLower}}.flush-interval:1s}")
+    public void flush() {
+        flushViewCounts();
+        flushLastSeen();
+    }
+
+    // 스케줄러 종료 후, DataSource 종료 전에 호출됨 (의존 빈 역순 소멸)
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushViewCounts() {
+        var batch = new ArrayList<Object[]>();
+        // remove(key)는 원자적 → remove 이후 들어온 merge 는 새 엔트리로 다음 flush 에 반영
+        for (var id : pendingViewCounts.keySet()) {
+            var delta = pendingViewCounts.remove(id);
+            if (delta != null) {
+                batch.add(new Object[]{delta, id});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "UPDATE {{tableName}} SET view_count = view_count + ? WHERE id = ?", batch, BATCH_SIZE,
+                    (ps, row) -> {
+                        ps.setLong(1, (Long) row[0]);
+                        ps.setLong(2, (Long) row[1]);
+                    }));
+        } catch (RuntimeException ex) {
+            // 실패분은 다시 합산하여 다음 주기에 재시도
+            batch.forEach(row -> pendingViewCounts.merge((Long) row[1], (Long) row[0], Long::sum));
+            log.warn("{{EntityName}} view_count flush 실패, {}건 재시도 예정", batch.size(), ex);
+        }
+    }
+
+    private void flushLastSeen() {
+        var batch = new ArrayList<Map.Entry<Long, LocalDateTime>>();
+        for (var id : pendingLastSeen.keySet()) {
+            var seenAt = pendingLastSeen.remove(id);
+            if (seenAt != null) {
+                batch.add(Map.entry(id, seenAt));
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            // GREATEST: 늦게 도착한 과거 시각이 최신 값을 덮어쓰지 않도록
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "UPDATE {{tableName}} SET last_seen_at = GREATEST(COALESCE(last_seen_at, ?), ?) WHERE id = ?", batch, BATCH_SIZE,
+                    (ps, entry) -> {
+                        var seenAt = Timestamp.valueOf(entry.getValue());
+                        ps.setTimestamp(1, seenAt);
+                        ps.setTimestamp(2, seenAt);
+                        ps.setLong(3, entry.getKey());
+                    }));
+        } catch (RuntimeException ex) {
+            batch.forEach(entry -> touchLastSeen(entry.getKey(), entry.getValue()));
+            log.warn("{{EntityName}} last_seen_at flush 실패, {}건 재시도 예정", batch.size(), ex);
+        }
+    }
+}
+*/
+
+// {{EntityName}}Service 사용 예: 엔티티 로드 없이 버퍼에 적재
+
+/*
+    private final {{EntityName}}WriteBehindBuffer writeBehindBuffer;
+
+    public void increaseViewCount(Long id) {
+        writeBehindBuffer.increaseViewCount(id);
+    }
+*/
+
+// -- 집계 서비스 (대시보드/리포트): 독립 조회 병렬 실행 --
+// 목록, 전체 건수, 상태별 건수처럼 서로 독립인 읽기 쿼리를 동시에 실행 → 응답 시간 = 합계 → 가장 느린 쿼리
+// 각 조회는 별도 readOnly 트랜잭션(= 별도 커넥션) → 동시 실행 수는 Semaphore(max-concurrent-queries)로 커넥션 풀보다 작게 제한
+// 슬롯 대기는 제출 스레드가 아닌 작업 안에서 섹션 마감 시각까지만 → 요청 스레드는 블로킹 없이 section-timeout 안에 응답
+// 섹션별 타임아웃 초과(슬롯 대기 포함)/실패 시 해당 섹션만 null + failedSections 에 기록 (부분 결과 응답)
+// 아래 코드는 domain/{{domainNameLower}}/service/{{EntityName}}DashboardService.java 로 생성
+
+/*
+package {{basePackage}}.domain.{{domainNameLower}}.service;
+
+import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}DashboardResponse;
+import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}Response;
+import {{basePackage}}.domain.{{domainNameLower}}.repository.{{EntityName}}Repository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class {{EntityName}}DashboardService {
+
+    private static final int RECENT_SIZE = 10;
+
+    private final {{EntityName}}Repository {{entityName}}Repository;
+    private final TransactionTemplate readOnlyTx;
+    private final AsyncTaskExecutor queryExecutor;
+    private final Semaphore querySlots;
+    private final Duration sectionTimeout;
+
+    public {{EntityName}}DashboardService({{EntityName}}Repository {{entityName}}Repository,
+                                          PlatformTransactionManager transactionManager,
+                                          @Qualifier("queryExecutor") AsyncTaskExecutor queryExecutor,
+                                          @Value("${app.dashboard.max-concurrent-queries:8}") int maxConcurrentQueries,
+                                          @Value("${app.dashboard.section-timeout:2s}") Duration sectionTimeout) {
+        this.{{entityName}}Repository = {{entityName}}Repository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        // 트랜잭션 타임아웃 → JPA 쿼리 타임아웃으로 전파되어 타임아웃 후 DB 쿼리도 중단
+        this.readOnlyTx.setTimeout((int) Math.max(1, sectionTimeout.toSeconds()));
+        this.queryExecutor = queryExecutor;
+        this.querySlots = new Semaphore(maxConcurrentQueries);
+        this.sectionTimeout = sectionTimeout;
+    }
+
+    public {{EntityName}}DashboardResponse getDashboard() {
+        var recent = submit(() -> {{entityName}}Repository
+                .findAll(PageRequest.of(0, RECENT_SIZE, Sort.by(Sort.Direction.DESC, "id")))
+                .map({{EntityName}}Response::from)
+                .getContent());
+        var totalCount = submit({{entityName}}Repository::count);
+        var countsByStatus = submit(() -> {{entityName}}Repository.countGroupByStatus().stream()
+                .collect(Collectors.toMap(row -> String.valueOf(row.getStatus()), {{EntityName}}Repository.StatusCount::getCount)));
+
+        var failedSections = new ArrayList<String>();
+        return new {{EntityName}}DashboardResponse(
+                await("recent", recent, failedSections),
+                await("totalCount", totalCount, failedSections),
+                await("countsByStatus", countsByStatus, failedSections),
+                failedSections);
+    }
+
+    // 제출은 즉시 반환 (queryExecutor 는 동시 실행 제한 없음) → orTimeout 이 슬롯 대기 시간까지 포함
+    private <T> CompletableFuture<T> submit(Supplier<T> query) {
+        var deadline = System.nanoTime() + sectionTimeout.toNanos();
+        return CompletableFuture.supplyAsync(() -> runWithSlot(query, deadline), queryExecutor)
+                .orTimeout(sectionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 마감 시각이 지나면 슬롯을 기다리지 않음 → 타임아웃 처리된 섹션이 뒤늦게 커넥션을 점유하지 않음
+    private <T> T runWithSlot(Supplier<T> query, long deadline) {
+        try {
+            if (!querySlots.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw new CompletionException(new TimeoutException("조회 슬롯 대기 시간 초과"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        try {
+            return readOnlyTx.execute(status -> query.get());
+        } finally {
+            querySlots.release();
+        }
+    }
+
+    private <T> T await(String section, CompletableFuture<T> future, List<String> failedSections) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            log.warn("대시보드 섹션 조회 실패: {{EntityName}} {}", section, ex.getCause());
+            failedSections.add(section);
+            return null;
+        }
+    }
+}
+*/
+
+// {{EntityName}}Repository 집계 쿼리 (status 필드 예시 → 도메인 분류 필드로 교체)
+
+/*
+    interface StatusCount {
+        Object getStatus();
+        long getCount();
+    }
+
+    @Query("select e.status as status, count(e) as count from {{EntityName}} e group by e.status")
+    List<StatusCount> countGroupByStatus();
+*/
+
+// {{EntityName}}DashboardResponse (dto 패키지), Controller: GET /api/v1/{{resourceName}}/dashboard
+
+/*
+public record {{EntityName}}DashboardResponse(
+        List<{{EntityName}}Response> recent,
+        Long totalCount,
+        Map<String, Long> countsByStatus,
+        List<String> failedSections
+) {}
+
+    @GetMapping("/dashboard")
+    {{EntityName}}DashboardResponse dashboard() {
+        return {{entityName}}DashboardService.getDashboard();
+    }
+*/
+
+// 조회 전용 executor (common/config/AsyncConfig.java)
+
+/*
+    // virtual thread, 동시 실행 제한 없음 (setConcurrencyLimit 는 제출 스레드를 블로킹 → 요청 스레드가 타임아웃 밖에서 대기)
+    // 커넥션 보호용 동시 실행 제한은 {{EntityName}}DashboardService 의 Semaphore 가 담당
+    @Bean
+    AsyncTaskExecutor queryExecutor() {
+        var executor = new SimpleAsyncTaskExecutor("query-");
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(5_000);
+        return executor;
+    }
+*/
+
+// application.yml
+
+/*
+app:
+  dashboard:
+    max-concurrent-queries: 8   # 커넥션 풀 크기 미만
+    section-timeout: 2s
+*/
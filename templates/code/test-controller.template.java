@@ -2,6 +2,8 @@ package {{basePackage}}.domain.{{domainNameLower}}.controller;
 
 import {{basePackage}}.domain.{{domainNameLower}}.dto.Create{{EntityName}}Request;
 import {{basePackage}}.domain.{{domainNameLower}}.dto.Update{{EntityName}}Request;
+import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}BatchGetRequest;
+import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}BatchResponse;
 import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}Response;
 import {{basePackage}}.domain.{{domainNameLower}}.exception.{{EntityName}}NotFoundException;
 import {{basePackage}}.domain.{{domainNameLower}}.service.{{EntityName}}Service;
@@ -48,6 +50,9 @@ class {{EntityName}}ControllerTest {
 {{#responseFieldValues}}
                 {{value}},
 {{/responseFieldValues}}
+{{#relations}}
+                1L,
+{{/relations}}
                 LocalDateTime.now(),
                 LocalDateTime.now()
         );
@@ -122,6 +127,59 @@ class {{EntityName}}ControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET " + BASE_URL + "?ids= / POST " + BASE_URL + "/batch-get")
+    class BatchGet {
+
+        @Test
+        @DisplayName("200 OK - GET ?ids= 다건 조회")
+        void getWithIds() throws Exception {
+            // given
+            var batch = new {{EntityName}}BatchResponse(List.of(createResponse()), List.of(999L));
+
+            given({{entityName}}Service.findAllById(List.of(1L, 999L)))
+                    .willReturn(batch);
+
+            // when & then
+            mockMvc.perform(get(BASE_URL).param("ids", "1", "999"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(1))
+                    .andExpect(jsonPath("$.missingIds[0]").value(999));
+        }
+
+        @Test
+        @DisplayName("200 OK - POST /batch-get 다건 조회")
+        void postBatchGet() throws Exception {
+            // given
+            var request = new {{EntityName}}BatchGetRequest(List.of(1L, 999L));
+            var batch = new {{EntityName}}BatchResponse(List.of(createResponse()), List.of(999L));
+
+            given({{entityName}}Service.findAllById(List.of(1L, 999L)))
+                    .willReturn(batch);
+
+            // when & then
+            mockMvc.perform(post(BASE_URL + "/batch-get")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.missingIds[0]").value(999));
+        }
+
+        @Test
+        @DisplayName("400 Bad Request - 빈 ID 목록")
+        void emptyIds() throws Exception {
+            // given
+            var request = new {{EntityName}}BatchGetRequest(List.of());
+
+            // when & then
+            mockMvc.perform(post(BASE_URL + "/batch-get")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET " + BASE_URL)
     class FindAll {
@@ -111,3 +111,199 @@ class {{EntityName}}RepositoryTest {
         }
     }
 }
+
+// -- 전문 검색 벤치마크 (--fulltext 사용 시) --
+// 아래 코드는 repository/{{EntityName}}SearchBenchmarkTest.java 로 생성
+// 실제 PostgreSQL/MySQL 대상 (H2는 tsvector/FULLTEXT 미지원) → ./gradlew benchmarkTest (/gradle 태그 분리 참고)
+// LIKE('%x%') 풀스캔 대비 전문 검색 인덱스의 p50 응답 시간 비교
+// 결과: build/reports/benchmark/{{resourceName}}-search.json
+// @BeforeAll/@AfterAll 은 @DataJpaTest 롤백 밖에서 커밋됨 → 실행 전후 테이블 TRUNCATE (벤치마크 전용 DB 필수)
+
+/*
+package {{basePackage}}.domain.{{domainNameLower}}.repository;
+
+import {{basePackage}}.common.config.QuerydslConfig;
+import {{basePackage}}.domain.{{domainNameLower}}.dto.{{EntityName}}SearchCondition;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@DataJpaTest
+@Import(QuerydslConfig.class)   // @DataJpaTest 는 @Configuration 미스캔 → {{EntityName}}RepositoryImpl 의 JPAQueryFactory 주입용
+@ActiveProfiles("benchmark")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class {{EntityName}}SearchBenchmarkTest {
+
+    private static final int ROWS = 200_000;
+    private static final int RUNS = 30;
+    private static final String KEYWORD = "needle";
+    private static final Path REPORT = Path.of("build/reports/benchmark/{{resourceName}}-search.json");
+
+    @Autowired
+    {{EntityName}}Repository {{entityName}}Repository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        // 이전 실행이 중단되어 남은 행 제거 → 매 실행 동일한 ROWS 기준으로 측정
+        truncate();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO {{tableName}} (name, created_at, updated_at) VALUES (?, now(), now())",
+                IntStream.range(0, ROWS)
+                        .mapToObj(i -> new Object[]{(i % 1_000 == 0 ? KEYWORD + " " : "") + "item " + i})
+                        .toList());
+    }
+
+    @AfterAll
+    void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE {{tableName}}");
+    }
+
+    @Test
+    @DisplayName("전문 검색이 LIKE 검색보다 빠르다")
+    void fullTextFasterThanLike() throws IOException {
+        var page = PageRequest.of(0, 20);
+
+        var like = p50(() -> {{entityName}}Repository.search(new {{EntityName}}SearchCondition(KEYWORD), page));
+        var fullText = p50(() -> {{entityName}}Repository.searchFullText(KEYWORD, page));
+
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, """
+                {"resource": "{{resourceName}}", "rows": %d, "runs": %d, "likeP50Us": %d, "fullTextP50Us": %d}
+                """.formatted(ROWS, RUNS, like / 1_000, fullText / 1_000));
+
+        assertThat(fullText).isLessThan(like);
+    }
+
+    private long p50(Supplier<?> query) {
+        var samples = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            var start = System.nanoTime();
+            query.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+}
+*/
+
+// src/test/resources/application-benchmark.yml
+// 벤치마크 전용 DB (실행마다 TRUNCATE → 공유/운영 DB 지정 금지), 스키마는 Flyway 마이그레이션(5-1 포함)으로 생성
+
+/*
+spring:
+  datasource:
+    url: ${BENCHMARK_DB_URL:jdbc:postgresql://localhost:5432/{{domainNameLower}}_benchmark}
+    username: ${BENCHMARK_DB_USERNAME:benchmark}
+    password: ${BENCHMARK_DB_PASSWORD:benchmark}
+  flyway:
+    enabled: true
+  jpa:
+    hibernate:
+      ddl-auto: validate
+*/
+
+// -- 커넥션 풀 고갈 검증 (/config datasource 사용 시) --
+// 아래 코드는 domain/{{domainNameLower}}/{{EntityName}}ConnectionPoolFloodTest.java 로 생성
+// 풀 크기의 수십 배 동시 요청을 보내 커넥션 대기 타임아웃(hikaricp.connections.timeout)이 없는지 확인
+// 대기 스레드 수는 요청 도중에만 의미 있음 → 부하 중 피크를 샘플링해 풀이 실제로 포화됐는지 확인, 최대 획득 시간은 hikaricp.connections.acquire 타이머로 판정
+
+/*
+package {{basePackage}}.domain.{{domainNameLower}};
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class {{EntityName}}ConnectionPoolFloodTest {
+
+    private static final int REQUESTS_PER_CONNECTION = 20;
+
+    @LocalServerPort
+    int port;
+
+    // /config tracing 사용 시 DataSource 빈이 ProxyDataSource 로 감싸짐 → 타입 대신 unwrap 으로 접근
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("동시 요청이 몰려도 커넥션 대기 타임아웃이 발생하지 않는다")
+    void noConnectionStarvation() throws Exception {
+        // given
+        var pool = dataSource.unwrap(HikariDataSource.class);
+        var requests = pool.getMaximumPoolSize() * REQUESTS_PER_CONNECTION;
+        var client = HttpClient.newHttpClient();
+        var list = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/{{resourceName}}?size=20")).build();
+        var statuses = new ArrayList<Future<Integer>>(requests);
+        var peakAwaiting = new AtomicInteger();
+
+        // when
+        try (var sampler = Executors.newSingleThreadScheduledExecutor()) {
+            sampler.scheduleAtFixedRate(
+                    () -> peakAwaiting.accumulateAndGet(pool.getHikariPoolMXBean().getThreadsAwaitingConnection(), Math::max),
+                    0, 1, TimeUnit.MILLISECONDS);
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < requests; i++) {
+                    statuses.add(executor.submit(() -> client.send(list, HttpResponse.BodyHandlers.discarding()).statusCode()));
+                }
+            }
+            sampler.shutdownNow();
+        }
+
+        // then
+        for (var status : statuses) {
+            assertThat(status.get()).isEqualTo(200);
+        }
+        assertThat(meterRegistry.get("hikaricp.connections.timeout").counter().count()).isZero();
+        // 대기가 한 번도 없었다면 풀이 포화되지 않은 것 → 위 검증이 아무것도 증명하지 못함
+        assertThat(peakAwaiting.get()).isPositive();
+        var acquireMaxMillis = meterRegistry.get("hikaricp.connections.acquire").timer().max(TimeUnit.MILLISECONDS);
+        assertThat(acquireMaxMillis).isLessThan((double) pool.getConnectionTimeout());
+    }
+}
+*/
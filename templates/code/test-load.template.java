@@ -0,0 +1,177 @@
+package {{basePackage}}.domain.{{domainNameLower}};
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// -- 부하 테스트 (Testcontainers 미사용, 임베디드 DB + 대량 시드 데이터) --
+// 실행: ./gradlew loadTest (기본 test 태스크는 excludeTags 'load' → /gradle 태그 분리 참고)
+// 결과: build/reports/load-test/{{resourceName}}.json (엔드포인트별 처리량, p50/p95/p99) → CI 아티팩트로 회귀 추적
+
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class {{EntityName}}LoadTest {
+
+    private static final int SEED_ROWS = 200_000;
+    private static final int SEED_CHUNK = 1_000;
+    private static final int CONCURRENCY = 200;
+    private static final int REQUESTS_PER_ENDPOINT = 5_000;
+    private static final Path REPORT = Path.of("build/reports/load-test/{{resourceName}}.json");
+    private static final String INSERT_SQL = "INSERT INTO {{tableName}} ({{#createFieldValues}}{{columnName}}{{^last}}, {{/last}}{{/createFieldValues}}{{#hasBaseEntity}}, created_at, updated_at{{/hasBaseEntity}}) "
+            + "VALUES ({{#createFieldValues}}?{{^last}}, {{/last}}{{/createFieldValues}}{{#hasBaseEntity}}, ?, ?{{/hasBaseEntity}})";
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private long maxId;
+
+    @BeforeAll
+    void seed() {
+        // IDENTITY 전략은 em.persist 마다 즉시 INSERT (JDBC 배치 비활성화) → JdbcTemplate 배치로 청크 단위 적재
+        // 문자열 값은 행 번호 접미사로 행마다 다르게 (unique 제약 충돌 방지), enum 은 .name() 으로 바인딩 → seedValue
+        // 연관관계 FK 컬럼은 createFieldValues 에 없음 → NOT NULL FK 가 있으면 부모 행을 먼저 시드하고 INSERT_SQL 에 컬럼 추가
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < SEED_ROWS; from += SEED_CHUNK) {
+            var batch = new ArrayList<Object[]>(SEED_CHUNK);
+            for (int i = 0; i < SEED_CHUNK; i++) {
+                var row = from + i;
+                batch.add(new Object[]{ {{#createFieldValues}}seedValue({{value}}, row){{^last}}, {{/last}}{{/createFieldValues}}{{#hasBaseEntity}}, now, now{{/hasBaseEntity}} });
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+        maxId = jdbcTemplate.queryForObject("SELECT max(id) FROM {{tableName}}", Long.class);
+    }
+
+    private static Object seedValue(Object value, int row) {
+        return switch (value) {
+            case String text -> text + "-" + row;
+            case Enum<?> constant -> constant.name();
+            default -> value;
+        };
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 처리량과 지연 시간 백분위를 기록한다")
+    void measureEndpoints() throws Exception {
+        var results = new LinkedHashMap<String, Map<String, Object>>();
+
+        results.put("GET /{id}", run(() -> get("/" + randomId())));
+        results.put("GET ?page", run(() -> get("?page=" + ThreadLocalRandom.current().nextInt(100) + "&size=20")));
+        results.put("GET ?ids", run(() -> get("?ids=" + randomIds(50))));
+
+        Files.createDirectories(REPORT.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), Map.of(
+                "resource", "{{resourceName}}",
+                "seedRows", SEED_ROWS,
+                "concurrency", CONCURRENCY,
+                "endpoints", results));
+
+        results.values().forEach(result -> assertThat(result.get("errors")).isEqualTo(0));
+    }
+
+    private Map<String, Object> run(Supplier<HttpRequest> request) throws InterruptedException {
+        var latencies = new ConcurrentLinkedQueue<Long>();
+        var errors = new AtomicInteger();
+        var permits = new Semaphore(CONCURRENCY);
+
+        var start = System.nanoTime();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS_PER_ENDPOINT; i++) {
+                permits.acquire();
+                executor.submit(() -> {
+                    try {
+                        var sent = System.nanoTime();
+                        var response = client.send(request.get(), HttpResponse.BodyHandlers.discarding());
+                        latencies.add(System.nanoTime() - sent);
+                        if (response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        var sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        var result = new LinkedHashMap<String, Object>();
+        result.put("requests", sorted.length);
+        result.put("errors", errors.get());
+        result.put("throughputPerSec", Math.round(sorted.length / (elapsed.toMillis() / 1_000.0)));
+        result.put("p50Ms", percentileMillis(sorted, 0.50));
+        result.put("p95Ms", percentileMillis(sorted, 0.95));
+        result.put("p99Ms", percentileMillis(sorted, 0.99));
+        result.put("maxMs", percentileMillis(sorted, 1.0));
+        return result;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/{{resourceName}}" + path))
+                .timeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, maxId + 1);
+    }
+
+    private String randomIds(int count) {
+        return LongStream.generate(this::randomId).limit(count)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(","));
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        var index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
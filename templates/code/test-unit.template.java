@@ -15,8 +15,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -89,6 +91,42 @@ class {{EntityName}}ServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAllById")
+    class FindAllById {
+
+        @Test
+        @DisplayName("요청 순서를 유지하고 누락된 ID를 보고한다")
+        void keepsOrderAndReportsMissing() {
+            // given
+            var first = {{EntityName}}.create({{#createFieldValues}}{{value}}{{^last}}, {{/last}}{{/createFieldValues}});
+            var second = {{EntityName}}.create({{#createFieldValues}}{{value}}{{^last}}, {{/last}}{{/createFieldValues}});
+            ReflectionTestUtils.setField(first, "id", 1L);
+            ReflectionTestUtils.setField(second, "id", 2L);
+
+            given({{entityName}}Repository.findAllById(List.of(2L, 999L, 1L)))
+                    .willReturn(List.of(first, second));
+
+            // when
+            var result = {{entityName}}Service.findAllById(List.of(2L, 999L, 1L, 2L));
+
+            // then
+            assertThat(result.content()).extracting({{EntityName}}Response::id).containsExactly(2L, 1L);
+            assertThat(result.missingIds()).containsExactly(999L);
+        }
+
+        @Test
+        @DisplayName("최대 개수를 초과하면 예외를 던진다")
+        void tooManyIds() {
+            // given
+            var ids = LongStream.rangeClosed(1, 1_001).boxed().toList();
+
+            // when & then
+            assertThatThrownBy(() -> {{entityName}}Service.findAllById(ids))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     @DisplayName("findAll")
     class FindAll {
@@ -134,3 +172,281 @@ class {{EntityName}}ServiceTest {
         }
     }
 }
+
+// -- SingleFlight 사용 시 --
+// 아래 코드는 common/support/SingleFlightTest.java 로 생성
+
+/*
+package {{basePackage}}.common.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 로더를 한 번만 실행한다")
+    void coalescesConcurrentLoads() throws Exception {
+        // given
+        var singleFlight = new SingleFlight<Long, String>();
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var callers = new ConcurrentLinkedQueue<Thread>();
+        var results = new ArrayList<Future<String>>();
+
+        // when
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                results.add(executor.submit(() -> {
+                    callers.add(Thread.currentThread());
+                    return singleFlight.execute(1L, () -> {
+                        loads.incrementAndGet();
+                        await(release);
+                        return "value";
+                    });
+                }));
+            }
+            // 로더 1건은 release 대기, 나머지 49건은 공유 future join 대기 → 50건 모두 WAITING 이후 해제
+            awaitAllWaiting(callers, 50);
+            release.countDown();
+            for (var result : results) {
+                assertThat(result.get()).isEqualTo("value");
+            }
+        }
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로더 예외는 호출자에게 그대로 전파되고 다음 호출은 다시 로드한다")
+    void propagatesFailure() {
+        // given
+        var singleFlight = new SingleFlight<Long, String>();
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.execute(1L, () -> { throw new IllegalStateException("boom"); }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.execute(1L, () -> "value")).isEqualTo("value");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitAllWaiting(Collection<Thread> callers, int expected) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (callers.size() < expected
+                || !callers.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("호출자 " + expected + "건이 대기 상태에 도달하지 않음");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
+*/
+
+// -- 쓰기 지연 버퍼 사용 시 --
+// 아래 코드는 domain/{{domainNameLower}}/service/{{EntityName}}WriteBehindBufferTest.java 로 생성
+
+/*
+package {{basePackage}}.domain.{{domainNameLower}}.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class {{EntityName}}WriteBehindBufferTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("같은 id의 증가분을 합산하여 한 번의 배치 UPDATE로 반영한다")
+    @SuppressWarnings("unchecked")
+    void aggregatesIncrements() {
+        // given
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        var buffer = new {{EntityName}}WriteBehindBuffer(jdbcTemplate, transactionManager);
+        for (int i = 0; i < 1_000; i++) {
+            buffer.increaseViewCount(1L);
+        }
+        buffer.increaseViewCount(2L);
+
+        // when
+        buffer.flush();
+
+        // then
+        var rows = forClass(List.class);
+        then(jdbcTemplate).should().batchUpdate(contains("view_count"), rows.capture(), anyInt(), any());
+        assertThat((List<Object[]>) rows.getValue())
+                .extracting(row -> row[1] + ":" + row[0])
+                .containsExactlyInAnyOrder("1:1000", "2:1");
+    }
+
+    @Test
+    @DisplayName("적재된 갱신이 없으면 UPDATE를 실행하지 않는다")
+    void skipsEmptyFlush() {
+        // given
+        var buffer = new {{EntityName}}WriteBehindBuffer(jdbcTemplate, transactionManager);
+
+        // when
+        buffer.flush();
+
+        // then
+        then(jdbcTemplate).should(never()).batchUpdate(any(String.class), any(List.class), anyInt(), any());
+    }
+}
+*/
+
+// -- 집계 서비스 사용 시 --
+// 아래 코드는 domain/{{domainNameLower}}/service/{{EntityName}}DashboardServiceTest.java 로 생성
+
+/*
+package {{basePackage}}.domain.{{domainNameLower}}.service;
+
+import {{basePackage}}.domain.{{domainNameLower}}.repository.{{EntityName}}Repository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class {{EntityName}}DashboardServiceTest {
+
+    private static final Duration SECTION_TIMEOUT = Duration.ofMillis(200);
+    private static final long SLOW_QUERY_MILLIS = 2_000;
+
+    @Mock
+    {{EntityName}}Repository {{entityName}}Repository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("실패한 섹션만 비우고 나머지 결과를 반환한다")
+    void partialResult() {
+        // given
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given({{entityName}}Repository.findAll(any(Pageable.class))).willReturn(Page.empty());
+        given({{entityName}}Repository.count()).willReturn(42L);
+        given({{entityName}}Repository.countGroupByStatus()).willThrow(new IllegalStateException("timeout"));
+
+        var dashboardService = dashboardService(8);
+
+        // when
+        var dashboard = dashboardService.getDashboard();
+
+        // then
+        assertThat(dashboard.recent()).isEmpty();
+        assertThat(dashboard.totalCount()).isEqualTo(42L);
+        assertThat(dashboard.countsByStatus()).isNull();
+        assertThat(dashboard.failedSections()).containsExactly("countsByStatus");
+    }
+
+    @Test
+    @DisplayName("섹션 타임아웃을 넘긴 조회는 failedSections 에 기록되고 응답은 기다리지 않는다")
+    void slowSectionTimesOut() {
+        // given
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given({{entityName}}Repository.findAll(any(Pageable.class))).willReturn(Page.empty());
+        given({{entityName}}Repository.count()).willAnswer(invocation -> {
+            Thread.sleep(SLOW_QUERY_MILLIS);
+            return 42L;
+        });
+        given({{entityName}}Repository.countGroupByStatus()).willReturn(List.of());
+        var dashboardService = dashboardService(8);
+
+        // when
+        var start = System.nanoTime();
+        var dashboard = dashboardService.getDashboard();
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(dashboard.totalCount()).isNull();
+        assertThat(dashboard.failedSections()).containsExactly("totalCount");
+        assertThat(elapsed).isLessThan(Duration.ofMillis(SLOW_QUERY_MILLIS / 2));
+    }
+
+    @Test
+    @DisplayName("조회 슬롯 대기 시간도 섹션 타임아웃에 포함된다")
+    void slotWaitCountsTowardTimeout() {
+        // given: 슬롯 1개를 느린 조회가 점유 → 실행 순서에 따라 일부 섹션은 조회 없이 슬롯 대기만 하다 실패
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when({{entityName}}Repository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        lenient().when({{entityName}}Repository.count()).thenAnswer(invocation -> {
+            Thread.sleep(SLOW_QUERY_MILLIS);
+            return 42L;
+        });
+        lenient().when({{entityName}}Repository.countGroupByStatus()).thenReturn(List.of());
+        var dashboardService = dashboardService(1);
+
+        // when
+        var start = System.nanoTime();
+        var dashboard = dashboardService.getDashboard();
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(dashboard.failedSections()).contains("totalCount");
+        assertThat(elapsed).isLessThan(Duration.ofMillis(SLOW_QUERY_MILLIS / 2));
+    }
+
+    private {{EntityName}}DashboardService dashboardService(int maxConcurrentQueries) {
+        var executor = new SimpleAsyncTaskExecutor("query-");
+        executor.setVirtualThreads(true);
+        return new {{EntityName}}DashboardService({{entityName}}Repository, transactionManager, executor,
+                maxConcurrentQueries, SECTION_TIMEOUT);
+    }
+}
+*/